@@ -0,0 +1,37 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import javassist.bytecode.ConstPool;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.BenchAnnotation;
+import ru.vyarus.guice.ext.benchmark.support.BenchInterface;
+import ru.vyarus.guice.ext.core.generator.JavassistUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copying of the same annotation type (annotation members are resolved once per annotation type).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@State(Scope.Thread)
+public class AnnotationCopyBenchmark {
+
+    private final BenchAnnotation annotation = BenchInterface.class.getAnnotation(BenchAnnotation.class);
+    private ConstPool constPool;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        constPool = new ConstPool("Bench");
+    }
+
+    @Benchmark
+    public javassist.bytecode.annotation.Annotation copy() throws Exception {
+        return JavassistUtils.copyAnnotation(constPool, annotation);
+    }
+}
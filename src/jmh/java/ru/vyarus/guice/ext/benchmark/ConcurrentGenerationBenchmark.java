@@ -0,0 +1,112 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.GenerationTarget;
+import ru.vyarus.guice.ext.benchmark.support.IsolatedLoader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent generation scenario (see ConcurrentGenerationTest) on different threads count: concurrent lookups
+ * of already generated types and concurrent generation of new types.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentGenerationBenchmark {
+
+    private static final String[] KINDS = {"interface", "abstract", "generic", "anchored"};
+
+    @Benchmark
+    @Threads(1)
+    public Class<?> lookup1(final Generated types, final Cursor cursor) {
+        return types.targets[cursor.next()].generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Class<?> lookup4(final Generated types, final Cursor cursor) {
+        return types.targets[cursor.next()].generate();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Class<?> lookup16(final Generated types, final Cursor cursor) {
+        return types.targets[cursor.next()].generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Class<?> generate1(final Fresh fresh) {
+        return fresh.target.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Class<?> generate4(final Fresh fresh) {
+        return fresh.target.generate();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Class<?> generate16(final Fresh fresh) {
+        return fresh.target.generate();
+    }
+
+    /**
+     * Types generated once and shared by all threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Generated {
+        GenerationTarget[] targets;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final IsolatedLoader loader = new IsolatedLoader();
+            targets = new GenerationTarget[KINDS.length];
+            for (int i = 0; i < KINDS.length; i++) {
+                targets[i] = GenerationTarget.create(KINDS[i], loader);
+                targets[i].generate();
+            }
+        }
+    }
+
+    /**
+     * Per-thread position in shared types.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+
+        int next() {
+            position = (position + 1) % KINDS.length;
+            return position;
+        }
+    }
+
+    /**
+     * New types for each invocation (per thread).
+     */
+    @State(Scope.Thread)
+    public static class Fresh {
+        @Param({"javassist", "asm"})
+        public String engine;
+
+        GenerationTarget target;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            GenerationTarget.useEngine(engine);
+        }
+
+        @Setup(Level.Invocation)
+        public void freshTypes() {
+            target = GenerationTarget.create("abstract", new IsolatedLoader());
+        }
+    }
+}
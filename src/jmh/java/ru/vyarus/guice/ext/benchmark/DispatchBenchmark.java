@@ -0,0 +1,98 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.matcher.Matchers;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.BenchCall;
+import ru.vyarus.guice.ext.benchmark.support.BenchRepository;
+import ru.vyarus.guice.ext.benchmark.support.IsolatedLoader;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.MethodHandler;
+import ru.vyarus.guice.ext.core.generator.MethodHandlerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract method call: guice aop interceptor vs direct dispatch (generated method body calls handler directly).
+ * Both implementations do the same work.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    private Finder aop;
+    private Finder direct;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // repository type loaded in separate class loaders because generated class is cached
+        aop = create(new IsolatedLoader(), false);
+        direct = create(new IsolatedLoader(), true);
+    }
+
+    @Benchmark
+    public String aop() {
+        return aop.find("name", 10);
+    }
+
+    @Benchmark
+    public String direct() {
+        return direct.find("name", 10);
+    }
+
+    private Finder create(final IsolatedLoader loader, final boolean dispatch) {
+        final Class<?> type = loader.load(BenchRepository.class);
+        @SuppressWarnings("unchecked") final Class<? extends Annotation> call =
+                (Class<? extends Annotation>) loader.load(BenchCall.class);
+        final Class<?> impl;
+        if (dispatch) {
+            DynamicClassGenerator.setDirectDispatch(true);
+            DynamicClassGenerator.registerMethodHandler(call, new MethodHandlerFactory() {
+                @Override
+                public MethodHandler create(final Class<?> type, final Method method) {
+                    return new MethodHandler() {
+                        @Override
+                        public Object handle(final Object instance, final Object[] args) {
+                            return find((String) args[0], (Integer) args[1]);
+                        }
+                    };
+                }
+            });
+            impl = DynamicClassGenerator.generate(type);
+            DynamicClassGenerator.setDirectDispatch(false);
+            DynamicClassGenerator.registerMethodHandler(call, null);
+        } else {
+            impl = DynamicClassGenerator.generate(type);
+        }
+        return (Finder) Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                if (!dispatch) {
+                    bindInterceptor(Matchers.any(), Matchers.annotatedWith(call), new MethodInterceptor() {
+                        @Override
+                        public Object invoke(final MethodInvocation invocation) {
+                            final Object[] args = invocation.getArguments();
+                            return find((String) args[0], (Integer) args[1]);
+                        }
+                    });
+                }
+            }
+        }).getInstance(impl);
+    }
+
+    private static String find(final String name, final int limit) {
+        return limit > 0 ? name : null;
+    }
+}
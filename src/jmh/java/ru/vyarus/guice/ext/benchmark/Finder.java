@@ -0,0 +1,12 @@
+package ru.vyarus.guice.ext.benchmark;
+
+/**
+ * Common interface for repositories, loaded by different class loaders (see {@link DispatchBenchmark}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface Finder {
+
+    String find(String name, int limit);
+}
@@ -0,0 +1,44 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.benchmark.support.BenchLifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prototype bean provision with two @PostConstruct methods and two @Log fields: prepared processors loop vs
+ * generated injection listener (direct calls).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratedListenerBenchmark {
+
+    private Injector processors;
+    private Injector generated;
+
+    @Setup
+    public void setUp() {
+        processors = Guice.createInjector(new ExtAnnotationsModule());
+        generated = Guice.createInjector(new ExtAnnotationsModule().generateListeners());
+    }
+
+    @Benchmark
+    public BenchLifecycle processors() {
+        return processors.getInstance(BenchLifecycle.class);
+    }
+
+    @Benchmark
+    public BenchLifecycle generated() {
+        return generated.getInstance(BenchLifecycle.class);
+    }
+}
@@ -0,0 +1,73 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.GenerationTarget;
+import ru.vyarus.guice.ext.benchmark.support.IsolatedLoader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dynamic class generation: cold (class not yet generated, new class loader for each invocation) and
+ * warm (already generated class lookup) cases for all generation engines.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> cold(final ColdState state) {
+        return state.target.generate();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Class<?> warm(final WarmState state) {
+        return state.target.generate();
+    }
+
+    /**
+     * Fresh types for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class ColdState {
+        @Param({"interface", "abstract", "generic", "anchored"})
+        public String kind;
+        @Param({"javassist", "asm"})
+        public String engine;
+
+        GenerationTarget target;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            GenerationTarget.useEngine(engine);
+        }
+
+        @Setup(Level.Invocation)
+        public void freshTypes() {
+            target = GenerationTarget.create(kind, new IsolatedLoader());
+        }
+    }
+
+    /**
+     * Types generated once.
+     */
+    @State(Scope.Thread)
+    public static class WarmState {
+        @Param({"interface", "anchored"})
+        public String kind;
+
+        GenerationTarget target;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            target = GenerationTarget.create(kind, new IsolatedLoader());
+            target.generate();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.matcher.Matchers;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.BenchService;
+import ru.vyarus.guice.ext.core.field.AnnotatedFieldTypeListener;
+import ru.vyarus.guice.ext.core.field.FieldPostProcessor;
+import ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener;
+import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
+import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.log.Log;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Injector creation with post processors: separate listeners (each scans class hierarchy) vs single
+ * {@link PostProcessingTypeListener} (single scan for all processors). {@code processors} is the number of
+ * registered annotation processors.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListenerBenchmark {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends Annotation>[] ANNOTATIONS = new Class[]{
+            PostConstruct.class, PreDestroy.class, Log.class, Deprecated.class};
+
+    @Param({"4", "16"})
+    public int processors;
+
+    @Benchmark
+    public BenchService separate() {
+        return create(new AbstractModule() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected void configure() {
+                for (int i = 0; i < processors; i++) {
+                    final Class<Annotation> ann = (Class<Annotation>) ANNOTATIONS[i % ANNOTATIONS.length];
+                    bindListener(Matchers.any(), i % 2 == 0
+                            ? new AnnotatedMethodTypeListener<>(ann, new NoopMethodProcessor())
+                            : new AnnotatedFieldTypeListener<>(ann, new NoopFieldProcessor()));
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    public BenchService unified() {
+        return create(new AbstractModule() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected void configure() {
+                final PostProcessingTypeListener.Builder builder = PostProcessingTypeListener.builder();
+                for (int i = 0; i < processors; i++) {
+                    final Class<Annotation> ann = (Class<Annotation>) ANNOTATIONS[i % ANNOTATIONS.length];
+                    if (i % 2 == 0) {
+                        builder.method(ann, new NoopMethodProcessor());
+                    } else {
+                        builder.field(ann, new NoopFieldProcessor());
+                    }
+                }
+                bindListener(Matchers.any(), builder.build());
+            }
+        });
+    }
+
+    private BenchService create(final AbstractModule module) {
+        final Injector injector = Guice.createInjector(module);
+        return injector.getInstance(BenchService.class);
+    }
+
+    private static class NoopMethodProcessor implements MethodPostProcessor<Annotation> {
+        @Override
+        public void process(final Annotation annotation, final Method method, final Object instance) {
+            // no-op
+        }
+    }
+
+    private static class NoopFieldProcessor implements FieldPostProcessor<Annotation> {
+        @Override
+        public void process(final Annotation annotation, final Field field, final Object instance) {
+            // no-op
+        }
+    }
+}
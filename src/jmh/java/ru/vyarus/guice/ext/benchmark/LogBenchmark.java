@@ -0,0 +1,72 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.matcher.Matchers;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.ext.benchmark.support.BenchService;
+import ru.vyarus.guice.ext.core.field.AnnotatedFieldTypeListener;
+import ru.vyarus.guice.ext.core.field.FieldPostProcessor;
+import ru.vyarus.guice.ext.log.Log;
+import ru.vyarus.guice.ext.log.Slf4jLogAnnotationProcessor;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prototype bean provision with @Log field: reflective processing (field accessibility, annotation and logger
+ * resolved for each instance) vs setter handle with logger, prepared once for bean type.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogBenchmark {
+
+    private Injector reflection;
+    private Injector handle;
+
+    @Setup
+    public void setUp() {
+        reflection = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new AnnotatedFieldTypeListener<>(Log.class,
+                        new FieldPostProcessor<Log>() {
+                            @Override
+                            public void process(final Log annotation, final Field field,
+                                                final Object instance) throws Exception {
+                                // previous listener behaviour
+                                field.setAccessible(true);
+                                field.getAnnotation(Log.class);
+                                field.set(instance, LoggerFactory.getLogger(field.getDeclaringClass()));
+                            }
+                        }));
+            }
+        });
+        handle = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new AnnotatedFieldTypeListener<>(Log.class,
+                        new Slf4jLogAnnotationProcessor()));
+            }
+        });
+    }
+
+    @Benchmark
+    public BenchService reflection() {
+        return reflection.getInstance(BenchService.class);
+    }
+
+    @Benchmark
+    public BenchService handle() {
+        return handle.getInstance(BenchService.class);
+    }
+}
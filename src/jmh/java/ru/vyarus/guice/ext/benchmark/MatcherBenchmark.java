@@ -0,0 +1,39 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.TypeLiteral;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.BenchService;
+import ru.vyarus.guice.ext.core.util.ObjectPackageMatcher;
+import ru.vyarus.guice.ext.core.util.PackagesMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Package matching: single prefix matcher vs packages tree matcher with five roots (cached decision).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatcherBenchmark {
+
+    private final TypeLiteral<BenchService> type = TypeLiteral.get(BenchService.class);
+    private final ObjectPackageMatcher<Object> prefix = new ObjectPackageMatcher<>("ru.vyarus.guice.ext.benchmark");
+    private final PackagesMatcher<Object> tree = new PackagesMatcher<>("com.company.app", "com.company.lib",
+            "org.company", "ru.vyarus.guice.ext.core", "ru.vyarus.guice.ext.benchmark");
+
+    @Benchmark
+    public boolean prefix() {
+        return prefix.matches(type);
+    }
+
+    @Benchmark
+    public boolean tree() {
+        return tree.matches(type);
+    }
+}
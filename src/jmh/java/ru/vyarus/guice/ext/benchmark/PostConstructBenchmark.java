@@ -0,0 +1,73 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.matcher.Matchers;
+import jakarta.annotation.PostConstruct;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.BenchService;
+import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
+import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.core.util.Utils;
+import ru.vyarus.guice.ext.managed.PostConstructAnnotationProcessor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prototype bean provision with @PostConstruct method: reflective processing (method accessibility, annotation
+ * and parameters resolved for each instance) vs method handle prepared once for bean type.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostConstructBenchmark {
+
+    private Injector reflection;
+    private Injector handle;
+
+    @Setup
+    public void setUp() {
+        reflection = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new AnnotatedMethodTypeListener<>(PostConstruct.class,
+                        new MethodPostProcessor<PostConstruct>() {
+                            @Override
+                            public void process(final PostConstruct annotation, final Method method,
+                                                final Object instance) throws Exception {
+                                // previous listener behaviour
+                                method.setAccessible(true);
+                                method.getAnnotation(PostConstruct.class);
+                                Utils.checkNoParams(method);
+                                method.invoke(instance);
+                            }
+                        }));
+            }
+        });
+        handle = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new AnnotatedMethodTypeListener<>(PostConstruct.class,
+                        new PostConstructAnnotationProcessor()));
+            }
+        });
+    }
+
+    @Benchmark
+    public BenchService reflection() {
+        return reflection.getInstance(BenchService.class);
+    }
+
+    @Benchmark
+    public BenchService handle() {
+        return handle.getInstance(BenchService.class);
+    }
+}
@@ -0,0 +1,64 @@
+package ru.vyarus.guice.ext.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.guice.ext.benchmark.support.BenchProvided;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prototype bean provision throughput: through {@link com.google.inject.internal.DynamicClassProvider}
+ * (@ProvidedBy) and with direct generated class binding (baseline).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProviderBenchmark {
+
+    private Injector provided;
+    private Injector bound;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provided = Guice.createInjector();
+        bound = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(BenchProvided.class).to(DynamicClassGenerator.generate(BenchProvided.class));
+            }
+        });
+    }
+
+    @Benchmark
+    @Threads(1)
+    public BenchProvided provided1() {
+        return provided.getInstance(BenchProvided.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BenchProvided provided4() {
+        return provided.getInstance(BenchProvided.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public BenchProvided bound1() {
+        return bound.getInstance(BenchProvided.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BenchProvided bound4() {
+        return bound.getInstance(BenchProvided.class);
+    }
+}
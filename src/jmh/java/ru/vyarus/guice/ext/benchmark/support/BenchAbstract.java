@@ -0,0 +1,19 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.name.Named;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchAnnotation("abstract")
+public abstract class BenchAbstract {
+
+    @Inject
+    public BenchAbstract(@Named("name") final String name, final Injector injector) {
+    }
+
+    public abstract String hello();
+}
@@ -0,0 +1,10 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+/**
+ * Anchor type for anchored generation.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BenchAnchor {
+}
@@ -0,0 +1,25 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation with different member types to copy.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface BenchAnnotation {
+
+    String value();
+
+    int[] numbers() default {1, 2, 3};
+
+    ElementType type() default ElementType.TYPE;
+
+    Class<?> cls() default Object.class;
+}
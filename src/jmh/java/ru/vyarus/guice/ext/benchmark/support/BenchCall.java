@@ -0,0 +1,17 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks benchmarked abstract methods (handled with aop or direct dispatch).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BenchCall {
+}
@@ -0,0 +1,19 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+import java.util.List;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public abstract class BenchGeneric {
+
+    @Inject
+    public BenchGeneric(final Provider<BenchInterface> provider, final List<String> names) {
+    }
+
+    public abstract String hello();
+}
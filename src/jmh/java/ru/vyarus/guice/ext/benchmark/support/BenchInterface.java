@@ -0,0 +1,11 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@BenchAnnotation("interface")
+public interface BenchInterface {
+
+    String hello();
+}
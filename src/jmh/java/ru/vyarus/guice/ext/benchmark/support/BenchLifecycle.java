@@ -0,0 +1,34 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import ru.vyarus.guice.ext.log.Log;
+
+/**
+ * Bean with several lifecycle members (all accessible from generated listener).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BenchLifecycle extends BenchServiceBase {
+
+    @Log
+    Logger logger;
+    @Log
+    Logger auditLogger;
+    int state;
+
+    @PostConstruct
+    public void init() {
+        state++;
+    }
+
+    @PostConstruct
+    void validate() {
+        state++;
+    }
+
+    public int getState() {
+        return state;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicClassProvider;
+
+/**
+ * Prototype scoped bean, provided with dynamic class provider.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicClassProvider.class)
+public interface BenchProvided {
+
+    String hello();
+}
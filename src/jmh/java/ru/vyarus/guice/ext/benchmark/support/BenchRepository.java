@@ -0,0 +1,16 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import ru.vyarus.guice.ext.benchmark.Finder;
+
+/**
+ * Repository-like abstract type: abstract methods implemented with aop or direct dispatch.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface BenchRepository extends Finder {
+
+    @Override
+    @BenchCall
+    String find(String name, int limit);
+}
@@ -0,0 +1,42 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import ru.vyarus.guice.ext.log.Log;
+
+/**
+ * Bean with lifecycle annotations and usual members (hierarchy of two classes).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BenchService extends BenchServiceBase {
+
+    @Log
+    private Logger logger;
+    private String name;
+    private int count;
+
+    @PostConstruct
+    public void init() {
+        count++;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        count--;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,27 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BenchServiceBase {
+
+    private String id;
+    private long created;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(final long created) {
+        this.created = created;
+    }
+}
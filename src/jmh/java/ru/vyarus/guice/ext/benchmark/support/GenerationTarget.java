@@ -0,0 +1,74 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import ru.vyarus.guice.ext.core.generator.AsmEngine;
+import ru.vyarus.guice.ext.core.generator.ClassGenerationEngine;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.JavassistEngine;
+
+/**
+ * Benchmarked generation case: abstract type and (optional) anchor.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class GenerationTarget {
+
+    private final Class<?> type;
+    private final Class<?> anchor;
+
+    private GenerationTarget(final Class<?> type, final Class<?> anchor) {
+        this.type = type;
+        this.anchor = anchor;
+    }
+
+    /**
+     * @return generated class
+     */
+    public Class<?> generate() {
+        return DynamicClassGenerator.generate(type, null, anchor);
+    }
+
+    /**
+     * @param kind   case name: interface, abstract, generic or anchored
+     * @param loader class loader to load types from
+     * @return generation target
+     */
+    public static GenerationTarget create(final String kind, final IsolatedLoader loader) {
+        final GenerationTarget res;
+        switch (kind) {
+            case "interface":
+                res = new GenerationTarget(loader.load(BenchInterface.class), null);
+                break;
+            case "abstract":
+                res = new GenerationTarget(loader.load(BenchAbstract.class), null);
+                break;
+            case "generic":
+                res = new GenerationTarget(loader.load(BenchGeneric.class), null);
+                break;
+            case "anchored":
+                res = new GenerationTarget(loader.load(BenchAbstract.class), loader.load(BenchAnchor.class));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown case: " + kind);
+        }
+        return res;
+    }
+
+    /**
+     * @param engine engine name: javassist or asm
+     */
+    public static void useEngine(final String engine) {
+        final ClassGenerationEngine res;
+        switch (engine) {
+            case "javassist":
+                res = new JavassistEngine();
+                break;
+            case "asm":
+                res = new AsmEngine();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown engine: " + engine);
+        }
+        DynamicClassGenerator.setEngine(res);
+    }
+}
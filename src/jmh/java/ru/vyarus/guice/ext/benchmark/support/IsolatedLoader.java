@@ -0,0 +1,64 @@
+package ru.vyarus.guice.ext.benchmark.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * Class loader re-defining benchmark types (this package) in order to get "not yet generated" types on each
+ * invocation. All other classes are loaded from parent.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class IsolatedLoader extends ClassLoader {
+
+    private static final String PACKAGE = IsolatedLoader.class.getPackage().getName() + ".";
+
+    public IsolatedLoader() {
+        super(IsolatedLoader.class.getClassLoader());
+    }
+
+    /**
+     * @param type benchmark type
+     * @return the same type, loaded by this class loader
+     */
+    public Class<?> load(final Class<?> type) {
+        try {
+            return loadClass(type.getName());
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException("Failed to load type", ex);
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(PACKAGE) || name.equals(IsolatedLoader.class.getName())) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> res = findLoadedClass(name);
+            if (res == null) {
+                final byte[] bytecode = read(name);
+                res = defineClass(name, bytecode, 0, bytecode.length);
+            }
+            return res;
+        }
+    }
+
+    private byte[] read(final String name) throws ClassNotFoundException {
+        try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            if (in == null) {
+                throw new ClassNotFoundException(name);
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (java.io.IOException ex) {
+            throw new ClassNotFoundException(name, ex);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import ru.vyarus.guice.ext.core.generator.anchor.AnchorBean;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provider allows using interfaces or abstract classes as normal guice beans.
@@ -19,6 +21,8 @@ import java.lang.annotation.Annotation;
  * <p>If used with injectors hierarchy or within private modules, use together with
  * {@link ru.vyarus.guice.ext.core.generator.anchor.GeneratorAnchorModule} to properly scope dynamic bindings.</p>
  * <p>Providers use guice package to use internal guice api (to resolve actual required type)</p>
+ * <p>Generated class provider is resolved once for each requested key (provider is an injector singleton), so
+ * repeated provisions (e.g. for prototype beans) avoid anchor lookup and class generator call.</p>
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.guice.ext.core.generator.DynamicClassGenerator if you prefer direct registration in module
@@ -28,6 +32,7 @@ import java.lang.annotation.Annotation;
 public class DynamicClassProvider implements Provider<Object> {
 
     private final Injector injector;
+    private final ConcurrentMap<Key<?>, Provider<?>> providers = new ConcurrentHashMap<>();
 
     @Inject
     public DynamicClassProvider(final Injector injector) {
@@ -37,15 +42,26 @@ public class DynamicClassProvider implements Provider<Object> {
     @Override
     public Object get() {
         try (InternalContext context = ((InjectorImpl) injector).enterContext()) {
-            // check if (possibly) child context contains anchor bean definition
-            final boolean hasAnchor = injector.getExistingBinding(Key.get(AnchorBean.class)) != null;
-            final Class<?> abstractType = context.getDependency().getKey().getTypeLiteral().getRawType();
-            final Class<?> generatedType = DynamicClassGenerator.generate(abstractType, getScopeAnnotation(),
-                    hasAnchor ? AnchorBean.class : null);
-            return injector.getInstance(generatedType);
+            final Key<?> key = context.getDependency().getKey();
+            Provider<?> provider = providers.get(key);
+            if (provider == null) {
+                provider = resolveProvider(key);
+                // concurrent resolution would produce the same provider
+                providers.putIfAbsent(key, provider);
+            }
+            return provider.get();
         }
     }
 
+    private Provider<?> resolveProvider(final Key<?> key) {
+        // check if (possibly) child context contains anchor bean definition
+        final boolean hasAnchor = injector.getExistingBinding(Key.get(AnchorBean.class)) != null;
+        final Class<?> abstractType = key.getTypeLiteral().getRawType();
+        final Class<?> generatedType = DynamicClassGenerator.generate(abstractType, getScopeAnnotation(),
+                hasAnchor ? AnchorBean.class : null);
+        return injector.getProvider(generatedType);
+    }
+
     /**
      * Override it to specify different annotation. By default, no annotation specified which will implicitly lead
      * to default prototype scope.
@@ -1,25 +1,29 @@
 package ru.vyarus.guice.ext;
 
+import com.google.common.collect.Lists;
 import com.google.inject.AbstractModule;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
-import ru.vyarus.guice.ext.core.field.AnnotatedFieldTypeListener;
-import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
-import ru.vyarus.guice.ext.core.type.GeneralTypeListener;
-import ru.vyarus.guice.ext.core.util.ObjectPackageMatcher;
+import ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener;
+import ru.vyarus.guice.ext.core.util.PackagesMatcher;
 import ru.vyarus.guice.ext.log.Log;
 import ru.vyarus.guice.ext.log.Slf4jLogAnnotationProcessor;
+import ru.vyarus.guice.ext.managed.AsyncPostConstructAnnotationProcessor;
 import ru.vyarus.guice.ext.managed.DestroyableTypeProcessor;
 import ru.vyarus.guice.ext.managed.PostConstructAnnotationProcessor;
 import ru.vyarus.guice.ext.managed.PreDestroyAnnotationProcessor;
+import ru.vyarus.guice.ext.managed.async.AsyncInitializationManager;
+import ru.vyarus.guice.ext.managed.async.AsyncPostConstruct;
 import ru.vyarus.guice.ext.managed.destroyable.Destroyable;
 import ru.vyarus.guice.ext.managed.destroyable.DestroyableManager;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.concurrent.Executor;
 
 /**
- * Additional annotations support module: @PostConstruct, @PreDestroy, @Log.
+ * Additional annotations support module: @PostConstruct, @AsyncPostConstruct, @PreDestroy, @Log.
  *
  * @author Vyacheslav Rusakov
  * @since 29.06.2014
@@ -28,6 +32,8 @@ import jakarta.annotation.PreDestroy;
 public class ExtAnnotationsModule extends AbstractModule {
 
     private Matcher<Object> typeMatcher;
+    private boolean generateListeners;
+    private Executor asyncExecutor;
 
     /**
      * Default module constructor to check annotations on all beans.
@@ -37,13 +43,25 @@ public class ExtAnnotationsModule extends AbstractModule {
     }
 
     /**
-     * Constructs annotation module with annotation scan limited to provided package.
-     * (used mainly for startup performance optimization)
+     * Constructs annotation module with annotation scan limited to provided package (and sub packages).
+     * (used mainly for startup performance optimization). Package is matched by full package segments, the same
+     * way as for multiple packages (see {@link PackagesMatcher}).
      *
      * @param pkg package to limit beans, where annotations processed
      */
     public ExtAnnotationsModule(final String pkg) {
-        this(new ObjectPackageMatcher<>(pkg));
+        this(new PackagesMatcher<>(pkg));
+    }
+
+    /**
+     * Constructs annotation module with annotation scan limited to provided packages (and sub packages).
+     * Matching decision is cached per class (see {@link PackagesMatcher}).
+     *
+     * @param pkg      package to limit beans, where annotations processed
+     * @param packages additional packages
+     */
+    public ExtAnnotationsModule(final String pkg, final String... packages) {
+        this(new PackagesMatcher<>(Lists.asList(pkg, packages), Collections.<String>emptyList()));
     }
 
     /**
@@ -55,23 +73,70 @@ public class ExtAnnotationsModule extends AbstractModule {
         this.typeMatcher = typeMatcher;
     }
 
+    /**
+     * Enables injection listener class generation for each bean type: annotated methods are called and logger
+     * fields assigned directly from generated class (no reflection). Private members are processed as usual
+     * (called from generated listener). Requires javassist.
+     *
+     * @return module instance for chained calls
+     * @see PostProcessingTypeListener.Builder#generateListeners()
+     */
+    public ExtAnnotationsModule generateListeners() {
+        this.generateListeners = true;
+        return this;
+    }
+
+    /**
+     * Configures executor for {@link AsyncPostConstruct} methods. By default, virtual threads are used on java 21
+     * and above (see {@link AsyncInitializationManager#defaultExecutor()}).
+     *
+     * @param executor executor for async initializations
+     * @return module instance for chained calls
+     */
+    public ExtAnnotationsModule asyncExecutor(final Executor executor) {
+        this.asyncExecutor = executor;
+        return this;
+    }
+
     @Override
     protected void configure() {
         final DestroyableManager manager = configureManager(new DestroyableManager());
+        final AsyncInitializationManager asyncManager = configureAsyncManager(asyncExecutor == null
+                ? new AsyncInitializationManager() : new AsyncInitializationManager(asyncExecutor));
+        // default executor (created lazily) shut down together with context
+        manager.register(new Destroyable() {
+            @Override
+            public void preDestroy() throws Exception {
+                asyncManager.shutdown();
+            }
+        });
 
-        bindListener(typeMatcher, new GeneralTypeListener<>(
-                Destroyable.class, new DestroyableTypeProcessor(manager)));
-
-        bindListener(typeMatcher, new AnnotatedMethodTypeListener<>(
-                PostConstruct.class, new PostConstructAnnotationProcessor()));
-
-        bindListener(typeMatcher, new AnnotatedMethodTypeListener<>(
-                PreDestroy.class, new PreDestroyAnnotationProcessor(manager)));
-
-        bindListener(typeMatcher, new AnnotatedFieldTypeListener<>(
-                Log.class, new Slf4jLogAnnotationProcessor()));
+        // all processors share single class hierarchy scan
+        final PostProcessingTypeListener.Builder builder = PostProcessingTypeListener.builder();
+        configureProcessors(builder, manager, asyncManager);
+        if (generateListeners) {
+            builder.generateListeners();
+        }
+        bindListener(typeMatcher, builder.build());
     }
 
+    /**
+     * Registers annotation processors. Override to register additional processors (processed in the same
+     * pass with default processors). Processors are called in registration order.
+     *
+     * @param builder      listener builder
+     * @param manager      destroyable manager instance
+     * @param asyncManager async initialization manager instance
+     */
+    protected void configureProcessors(final PostProcessingTypeListener.Builder builder,
+                                       final DestroyableManager manager,
+                                       final AsyncInitializationManager asyncManager) {
+        builder.type(Destroyable.class, new DestroyableTypeProcessor(manager))
+                .method(PostConstruct.class, new PostConstructAnnotationProcessor())
+                .method(AsyncPostConstruct.class, new AsyncPostConstructAnnotationProcessor(asyncManager))
+                .method(PreDestroy.class, new PreDestroyAnnotationProcessor(manager))
+                .field(Log.class, new Slf4jLogAnnotationProcessor());
+    }
 
     /**
      * Registers destroyable manager in injector and adds shutdown hook to process destroy on jvm shutdown.
@@ -85,4 +150,16 @@ public class ExtAnnotationsModule extends AbstractModule {
         Runtime.getRuntime().addShutdownHook(new Thread(manager));
         return manager;
     }
+
+    /**
+     * Registers async initialization manager in injector (used to wait for {@link AsyncPostConstruct}
+     * methods completion).
+     *
+     * @param manager async initialization manager instance
+     * @return manager instance
+     */
+    protected AsyncInitializationManager configureAsyncManager(final AsyncInitializationManager manager) {
+        bind(AsyncInitializationManager.class).toInstance(manager);
+        return manager;
+    }
 }
@@ -20,6 +20,13 @@ public class AnnotatedFieldTypeListener<T extends Annotation> implements TypeLis
 
     private final Class<T> annotationClass;
     private final FieldPostProcessor<T> postProcessor;
+    // types without annotated fields are scanned only once (class value does not prevent classes unloading)
+    private final ClassValue<Boolean> relevant = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return !AnnotatedFields.get(type, annotationClass).isEmpty();
+        }
+    };
 
     public AnnotatedFieldTypeListener(final Class<T> annotationClass, final FieldPostProcessor<T> postProcessor) {
         this.annotationClass = annotationClass;
@@ -30,30 +37,18 @@ public class AnnotatedFieldTypeListener<T extends Annotation> implements TypeLis
     @SuppressWarnings("PMD.UseDiamondOperator")
     public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
         final Class<? super I> actualType = type.getRawType();
-        if (!Utils.isPackageValid(actualType)) {
+        if (!Utils.isPackageValid(actualType) || !relevant.get(actualType)) {
             return;
         }
-        Class<? super I> investigatingType = actualType;
-        while (investigatingType != null && !investigatingType.equals(Object.class)) {
-            for (final Field field : investigatingType.getDeclaredFields()) {
-                if (field.isAnnotationPresent(annotationClass)) {
-                    encounter.register(new InjectionListener<I>() {
-                        @Override
-                        public void afterInjection(final I injectee) {
-                            try {
-                                field.setAccessible(true);
-                                postProcessor.process(field.getAnnotation(annotationClass), field, injectee);
-                            } catch (Exception ex) {
-                                throw new IllegalStateException(
-                                        String.format("Failed to process annotation %s on field %s of class %s",
-                                                annotationClass.getSimpleName(), field.getName(),
-                                                injectee.getClass().getSimpleName()), ex);
-                            }
-                        }
-                    });
+        for (final Field field : AnnotatedFields.get(actualType, annotationClass)) {
+            // accessibility, annotation and method handle resolved once for type
+            final PreparedField<T> prepared = new PreparedField<>(annotationClass, field, postProcessor);
+            encounter.register(new InjectionListener<I>() {
+                @Override
+                public void afterInjection(final I injectee) {
+                    prepared.process(injectee);
                 }
-            }
-            investigatingType = investigatingType.getSuperclass();
+            });
         }
     }
 }
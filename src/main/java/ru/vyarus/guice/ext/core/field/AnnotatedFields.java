@@ -0,0 +1,71 @@
+package ru.vyarus.guice.ext.core.field;
+
+import ru.vyarus.guice.ext.core.index.PostProcessingIndex;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Annotated fields of class hierarchy, resolved once per class (cached in class value, so shared by all
+ * injectors and not preventing class unloading). Fields are indexed by annotation type.
+ * <p>
+ * Fields are ordered as declared, starting from the class itself up to the top superclass.
+ *
+ * @author Vyacheslav Rusakov
+ * @see AnnotatedFieldTypeListener
+ * @since 18.10.2026
+ */
+public final class AnnotatedFields {
+
+    private static final ClassValue<AnnotatedFields> CACHE = new ClassValue<AnnotatedFields>() {
+        @Override
+        protected AnnotatedFields computeValue(final Class<?> type) {
+            return new AnnotatedFields(type);
+        }
+    };
+
+    private final Map<Class<? extends Annotation>, List<Field>> fields = new HashMap<>();
+
+    private AnnotatedFields(final Class<?> type) {
+        final Map<Class<? extends Annotation>, List<Field>> all = new HashMap<>();
+        Class<?> investigatingType = type;
+        while (investigatingType != null && !investigatingType.equals(Object.class)) {
+            // compile-time index allows to avoid members scan for classes without annotations
+            if (PostProcessingIndex.hasAnnotatedFields(investigatingType)) {
+                for (Field field : investigatingType.getDeclaredFields()) {
+                    index(all, field);
+                }
+            }
+            investigatingType = investigatingType.getSuperclass();
+        }
+        for (Map.Entry<Class<? extends Annotation>, List<Field>> entry : all.entrySet()) {
+            fields.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+    }
+
+    /**
+     * @param type       class
+     * @param annotation annotation type
+     * @return annotated fields (from class and all super classes) or empty list
+     */
+    public static List<Field> get(final Class<?> type, final Class<? extends Annotation> annotation) {
+        final List<Field> res = CACHE.get(type).fields.get(annotation);
+        return res == null ? Collections.<Field>emptyList() : res;
+    }
+
+    private static void index(final Map<Class<? extends Annotation>, List<Field>> index, final Field field) {
+        for (Annotation annotation : field.getDeclaredAnnotations()) {
+            List<Field> members = index.get(annotation.annotationType());
+            if (members == null) {
+                members = new ArrayList<>();
+                index.put(annotation.annotationType(), members);
+            }
+            members.add(field);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.vyarus.guice.ext.core.field;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/**
+ * Annotated field post processor, working with prepared method handle. Handle is prepared only once for bean
+ * type (when guice first encounters type), so per-instance processing is a direct handle invocation. Prepared
+ * handle may already contain resolved value (e.g. setter handle with bound value argument).
+ * <p>
+ * Both {@link AnnotatedFieldTypeListener} and
+ * {@link ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener} detect this variant automatically.
+ * Method {@link #process(Annotation, Field, Object)} is used only when processor is called directly or
+ * when {@link #prepare(Annotation, Field)} returns null.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> annotation type
+ */
+public interface FieldHandlePostProcessor<T extends Annotation> extends FieldPostProcessor<T> {
+
+    /**
+     * Called once for each annotated field of bean type to prepare method handle. Field is already accessible.
+     * If thrown, exception will be reported on each bean instance post processing (as if it was thrown by
+     * processing method).
+     *
+     * @param annotation annotation instance
+     * @param field      annotated field
+     * @return method handle to use for all bean instances or null to use
+     * {@link #process(Annotation, Field, Object)} instead
+     * @throws Exception on validation error
+     */
+    MethodHandle prepare(T annotation, Field field) throws Exception;
+
+    /**
+     * Called to post process annotated bean field.
+     * It is safe to avoid explicit exception handling (except special cases required by processor logic).
+     *
+     * @param annotation annotation instance
+     * @param field      annotated field
+     * @param handle     method handle, returned from {@link #prepare(Annotation, Field)}
+     * @param instance   bean instance
+     * @throws Exception on any unrecoverable error
+     */
+    void process(T annotation, Field field, MethodHandle handle, Object instance) throws Exception;
+}
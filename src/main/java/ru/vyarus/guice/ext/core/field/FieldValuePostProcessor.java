@@ -0,0 +1,28 @@
+package ru.vyarus.guice.ext.core.field;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * Field post processor, which only assigns value to annotated field and value is the same for all instances of
+ * bean type. When listeners generation is enabled
+ * ({@link ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener.Builder#generateListeners()}),
+ * value is assigned directly from generated listener (when field is accessible from bean package),
+ * so {@link #process(Annotation, Field, Object)} is not called at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> annotation type
+ */
+public interface FieldValuePostProcessor<T extends Annotation> extends FieldPostProcessor<T> {
+
+    /**
+     * Called once for each annotated field of bean type.
+     *
+     * @param annotation annotation instance
+     * @param field      annotated field
+     * @return value to assign
+     * @throws Exception on value resolution error
+     */
+    Object getValue(T annotation, Field field) throws Exception;
+}
@@ -0,0 +1,75 @@
+package ru.vyarus.guice.ext.core.field;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/**
+ * Annotated field post processing, prepared for exact bean type: field is made accessible, annotation is
+ * resolved and, for {@link FieldHandlePostProcessor}, method handle is prepared only once. Per-instance
+ * processing performs only post processor call. Preparation errors (e.g. not accessible field) are reported
+ * for each instance (the same way as processing errors).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> annotation type
+ */
+public final class PreparedField<T extends Annotation> {
+
+    private final Class<T> annotationClass;
+    private final Field field;
+    private final FieldPostProcessor<T> postProcessor;
+    private final T annotation;
+    private final MethodHandle handle;
+    private final Exception error;
+
+    /**
+     * @param annotationClass annotation type
+     * @param field           annotated field
+     * @param postProcessor   post processor
+     */
+    @SuppressWarnings("unchecked")
+    public PreparedField(final Class<T> annotationClass, final Field field,
+                         final FieldPostProcessor<T> postProcessor) {
+        this.annotationClass = annotationClass;
+        this.field = field;
+        this.postProcessor = postProcessor;
+        this.annotation = field.getAnnotation(annotationClass);
+        MethodHandle prepared = null;
+        Exception failure = null;
+        try {
+            field.setAccessible(true);
+            if (postProcessor instanceof FieldHandlePostProcessor) {
+                prepared = ((FieldHandlePostProcessor<T>) postProcessor).prepare(annotation, field);
+            }
+        } catch (Exception ex) {
+            // reported for each instance (exactly as access or validation error inside processing method)
+            failure = ex;
+        }
+        this.handle = prepared;
+        this.error = failure;
+    }
+
+    /**
+     * @param instance bean instance
+     * @throws IllegalStateException on post processing error
+     */
+    @SuppressWarnings("unchecked")
+    public void process(final Object instance) {
+        try {
+            if (error != null) {
+                throw error;
+            }
+            if (handle != null) {
+                ((FieldHandlePostProcessor<T>) postProcessor).process(annotation, field, handle, instance);
+            } else {
+                postProcessor.process(annotation, field, instance);
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException(
+                    String.format("Failed to process annotation %s on field %s of class %s",
+                            annotationClass.getSimpleName(), field.getName(),
+                            instance.getClass().getSimpleName()), ex);
+        }
+    }
+}
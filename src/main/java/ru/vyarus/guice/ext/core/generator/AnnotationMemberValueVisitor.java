@@ -16,7 +16,10 @@ import java.util.Map;
  *
  * @author Vyacheslav Rusakov
  * @since 08.12.2014
+ * @deprecated not used anymore: annotations are copied with
+ * {@link JavassistUtils#copyAnnotation(ConstPool, java.lang.annotation.Annotation)}
  */
+@Deprecated
 @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
 public class AnnotationMemberValueVisitor implements MemberValueVisitor {
 
@@ -103,7 +106,7 @@ public class AnnotationMemberValueVisitor implements MemberValueVisitor {
     @Override
     public void visitEnumMemberValue(final EnumMemberValue mb) {
         final Enum<?> enumeration = (Enum<?>) this.value;
-        final Class type = enumeration.getDeclaringClass();
+        final Class<?> type = enumeration.getDeclaringClass();
         mb.setType(type.getName());
         mb.setValue(enumeration.name());
     }
@@ -135,7 +138,7 @@ public class AnnotationMemberValueVisitor implements MemberValueVisitor {
 
     @Override
     public void visitClassMemberValue(final ClassMemberValue mb) {
-        mb.setValue(((Class) this.value).getName());
+        mb.setValue(((Class<?>) this.value).getName());
     }
 
     private MemberValue createValue(final Object value) throws Exception {
@@ -0,0 +1,95 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Annotation type members (cached per annotation type). Used to copy annotation values without repeated
+ * reflective lookups: member accessors are method handles, resolved once per annotation type.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class AnnotationMembers {
+
+    private static final ClassValue<AnnotationMembers> MEMBERS = new ClassValue<AnnotationMembers>() {
+        @Override
+        protected AnnotationMembers computeValue(final Class<?> type) {
+            return new AnnotationMembers(type);
+        }
+    };
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Annotation.class);
+
+    private final String[] names;
+    private final Class<?>[] types;
+    private final MethodHandle[] accessors;
+
+    private AnnotationMembers(final Class<?> annotationType) {
+        final Method[] methods = annotationType.getDeclaredMethods();
+        names = new String[methods.length];
+        types = new Class<?>[methods.length];
+        accessors = new MethodHandle[methods.length];
+        try {
+            for (int i = 0; i < methods.length; i++) {
+                final Method method = methods[i];
+                names[i] = method.getName();
+                types[i] = method.getReturnType();
+                accessors[i] = MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+            }
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Failed to resolve annotation members: " + annotationType.getName(), ex);
+        }
+    }
+
+    /**
+     * @param annotationType annotation type
+     * @return annotation members
+     */
+    static AnnotationMembers of(final Class<? extends Annotation> annotationType) {
+        return MEMBERS.get(annotationType);
+    }
+
+    /**
+     * @return members count
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * @param index member index
+     * @return member name
+     */
+    String name(final int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index member index
+     * @return member type
+     */
+    Class<?> type(final int index) {
+        return types[index];
+    }
+
+    /**
+     * @param index      member index
+     * @param annotation annotation instance
+     * @return member value
+     * @throws Exception on invocation error
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    Object value(final int index, final Annotation annotation) throws Exception {
+        try {
+            return accessors[index].invokeExact(annotation);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to read annotation value " + names[index], ex);
+        }
+    }
+}
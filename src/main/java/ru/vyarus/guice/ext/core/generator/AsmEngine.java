@@ -0,0 +1,288 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.primitives.Primitives;
+import com.google.inject.Inject;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * ASM bytecode engine. Class file is written in a single pass directly from reflection data (no intermediate
+ * class model like in javassist), so generation is faster and allocates less. Only original constructor
+ * generics signature is read from original class bytecode (it is not available through reflection).
+ * <p>
+ * Requires {@code org.ow2.asm:asm} in classpath. Enabled with
+ * {@code DynamicClassGenerator.setEngine(new AsmEngine())}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicClassGenerator
+ * @since 18.10.2026
+ */
+public final class AsmEngine implements ClassGenerationEngine {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CONSTRUCTOR = "<init>";
+    private static final int ACCESS_MASK = Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED | Opcodes.ACC_PRIVATE;
+
+    @Override
+    public byte[] generate(final GenerationSpec spec) throws Exception {
+        final Class<?> type = spec.getType();
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        final String superName = type.isInterface() ? OBJECT : Type.getInternalName(type);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, spec.getClassName().replace('.', '/'),
+                null, superName, type.isInterface() ? new String[]{Type.getInternalName(type)} : null);
+        for (Annotation ann : spec.getAnnotations()) {
+            writeAnnotation(cw.visitAnnotation(Type.getDescriptor(ann.annotationType()), true), ann);
+        }
+        if (spec.getScope() != null) {
+            cw.visitAnnotation(Type.getDescriptor(spec.getScope()), true).visitEnd();
+        }
+        if (spec.getConstructor() != null) {
+            copyConstructor(cw, superName, spec.getConstructor(), spec.getAnchor());
+        } else if (spec.getAnchor() != null) {
+            createAnchorConstructor(cw, superName, spec.getAnchor());
+        } else if (type.isInterface()) {
+            writeConstructor(cw, Opcodes.ACC_PUBLIC, superName, new Class<?>[0], null, null, null).visitEnd();
+        } else {
+            // same as javassist: all visible super constructors inherited
+            for (Constructor<?> ctor : type.getDeclaredConstructors()) {
+                if (!Modifier.isPrivate(ctor.getModifiers())) {
+                    writeConstructor(cw, ctor.getModifiers() & ACCESS_MASK, superName, ctor.getParameterTypes(),
+                            ctor.getExceptionTypes(), null, null).visitEnd();
+                }
+            }
+        }
+        if (!spec.getDispatchedMethods().isEmpty()) {
+            writeDirectDispatch(cw, spec.getClassName().replace('.', '/'), spec.getDispatchedMethods());
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void copyConstructor(final ClassWriter cw, final String superName, final Constructor<?> ctor,
+                                        final Class<?> anchor) throws Exception {
+        String signature = readConstructorSignature(ctor);
+        if (signature != null && anchor != null) {
+            // add anchor to generics signature
+            final int idx = signature.lastIndexOf(')');
+            signature = signature.substring(0, idx) + Type.getDescriptor(anchor) + signature.substring(idx);
+        }
+        final MethodVisitor mv = writeConstructor(cw, Opcodes.ACC_PUBLIC, superName, ctor.getParameterTypes(),
+                ctor.getExceptionTypes(), anchor, signature);
+        for (Annotation ann : ctor.getAnnotations()) {
+            writeAnnotation(mv.visitAnnotation(Type.getDescriptor(ann.annotationType()), true), ann);
+        }
+        final Annotation[][] paramAnnotations = ctor.getParameterAnnotations();
+        for (int i = 0; i < paramAnnotations.length; i++) {
+            for (Annotation ann : paramAnnotations[i]) {
+                writeAnnotation(mv.visitParameterAnnotation(i, Type.getDescriptor(ann.annotationType()), true), ann);
+            }
+        }
+        mv.visitEnd();
+    }
+
+    private static void createAnchorConstructor(final ClassWriter cw, final String superName,
+                                                final Class<?> anchor) {
+        final MethodVisitor mv = writeConstructor(cw, Opcodes.ACC_PUBLIC, superName, new Class<?>[0], null,
+                anchor, null);
+        mv.visitAnnotation(Type.getDescriptor(Inject.class), true).visitEnd();
+        mv.visitEnd();
+    }
+
+    /**
+     * Writes constructor, calling super constructor with the same parameters (except anchor).
+     *
+     * @return method visitor to write annotations (not ended)
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private static MethodVisitor writeConstructor(final ClassWriter cw, final int access, final String superName,
+                                                  final Class<?>[] params, final Class<?>[] exceptions,
+                                                  final Class<?> anchor, final String signature) {
+        final Type[] superParams = new Type[params.length];
+        for (int i = 0; i < params.length; i++) {
+            superParams[i] = Type.getType(params[i]);
+        }
+        final Type[] targetParams = anchor == null ? superParams : append(superParams, Type.getType(anchor));
+        String[] exceptionNames = null;
+        if (exceptions != null && exceptions.length > 0) {
+            exceptionNames = new String[exceptions.length];
+            for (int i = 0; i < exceptions.length; i++) {
+                exceptionNames[i] = Type.getInternalName(exceptions[i]);
+            }
+        }
+        final MethodVisitor mv = cw.visitMethod(access, CONSTRUCTOR,
+                Type.getMethodDescriptor(Type.VOID_TYPE, targetParams), signature, exceptionNames);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        int slot = 1;
+        for (Type param : superParams) {
+            mv.visitVarInsn(param.getOpcode(Opcodes.ILOAD), slot);
+            slot += param.getSize();
+        }
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, CONSTRUCTOR,
+                Type.getMethodDescriptor(Type.VOID_TYPE, superParams), false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        return mv;
+    }
+
+    private static void writeDirectDispatch(final ClassWriter cw, final String className,
+                                            final List<Method> methods) throws Exception {
+        final String handlerDesc = Type.getDescriptor(MethodHandler.class);
+        // static initializer: resolve handlers once
+        final MethodVisitor init = cw.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        init.visitCode();
+        init.visitLdcInsn(Type.getObjectType(className));
+        init.visitLdcInsn(methods.size());
+        init.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(DirectDispatch.class), "handlers",
+                "(Ljava/lang/Class;I)[" + handlerDesc, false);
+        init.visitVarInsn(Opcodes.ASTORE, 0);
+        for (int i = 0; i < methods.size(); i++) {
+            final String field = DirectDispatch.FIELD_PREFIX + i;
+            cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, field, handlerDesc,
+                    null, null).visitEnd();
+            init.visitVarInsn(Opcodes.ALOAD, 0);
+            init.visitLdcInsn(i);
+            init.visitInsn(Opcodes.AALOAD);
+            init.visitFieldInsn(Opcodes.PUTSTATIC, className, field, handlerDesc);
+            writeDispatchMethod(cw, className, field, methods.get(i));
+        }
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+    }
+
+    private static void writeDispatchMethod(final ClassWriter cw, final String className, final String field,
+                                            final Method method) throws Exception {
+        final Class<?>[] params = method.getParameterTypes();
+        String[] exceptions = null;
+        if (method.getExceptionTypes().length > 0) {
+            exceptions = new String[method.getExceptionTypes().length];
+            for (int i = 0; i < exceptions.length; i++) {
+                exceptions[i] = Type.getInternalName(method.getExceptionTypes()[i]);
+            }
+        }
+        final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, method.getName(),
+                Type.getMethodDescriptor(method), null, exceptions);
+        for (Annotation ann : method.getAnnotations()) {
+            writeAnnotation(mv.visitAnnotation(Type.getDescriptor(ann.annotationType()), true), ann);
+        }
+        mv.visitCode();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, field, Type.getDescriptor(MethodHandler.class));
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitLdcInsn(params.length);
+        mv.visitTypeInsn(Opcodes.ANEWARRAY, OBJECT);
+        int slot = 1;
+        for (int i = 0; i < params.length; i++) {
+            final Type param = Type.getType(params[i]);
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitLdcInsn(i);
+            mv.visitVarInsn(param.getOpcode(Opcodes.ILOAD), slot);
+            if (params[i].isPrimitive()) {
+                final Class<?> wrapper = Primitives.wrap(params[i]);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+                        Type.getMethodDescriptor(Type.getType(wrapper), param), false);
+            }
+            mv.visitInsn(Opcodes.AASTORE);
+            slot += param.getSize();
+        }
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(MethodHandler.class), "handle",
+                "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;", true);
+        writeReturn(mv, method.getReturnType());
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void writeReturn(final MethodVisitor mv, final Class<?> type) {
+        if (type == void.class) {
+            mv.visitInsn(Opcodes.POP);
+            mv.visitInsn(Opcodes.RETURN);
+        } else if (type.isPrimitive()) {
+            final Class<?> wrapper = Primitives.wrap(type);
+            final Type primitive = Type.getType(type);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(wrapper));
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(wrapper), type.getName() + "Value",
+                    Type.getMethodDescriptor(primitive), false);
+            mv.visitInsn(primitive.getOpcode(Opcodes.IRETURN));
+        } else {
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            mv.visitInsn(Opcodes.ARETURN);
+        }
+    }
+
+    private static Type[] append(final Type[] types, final Type type) {
+        final Type[] res = new Type[types.length + 1];
+        System.arraycopy(types, 0, res, 0, types.length);
+        res[types.length] = type;
+        return res;
+    }
+
+    private static void writeAnnotation(final AnnotationVisitor av, final Annotation ann) throws Exception {
+        final AnnotationMembers members = AnnotationMembers.of(ann.annotationType());
+        for (int i = 0; i < members.size(); i++) {
+            writeValue(av, members.name(i), members.value(i, ann));
+        }
+        av.visitEnd();
+    }
+
+    private static void writeValue(final AnnotationVisitor av, final String name, final Object value)
+            throws Exception {
+        if (value instanceof Class) {
+            av.visit(name, Type.getType((Class<?>) value));
+        } else if (value instanceof Enum) {
+            final Enum<?> constant = (Enum<?>) value;
+            av.visitEnum(name, Type.getDescriptor(constant.getDeclaringClass()), constant.name());
+        } else if (value instanceof Annotation) {
+            final Annotation ann = (Annotation) value;
+            writeAnnotation(av.visitAnnotation(name, Type.getDescriptor(ann.annotationType())), ann);
+        } else if (value.getClass().isArray()) {
+            final AnnotationVisitor array = av.visitArray(name);
+            final int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                writeValue(array, null, Array.get(value, i));
+            }
+            array.visitEnd();
+        } else {
+            // primitive wrappers and string
+            av.visit(name, value);
+        }
+    }
+
+    private static String readConstructorSignature(final Constructor<?> ctor) throws Exception {
+        final Class<?> type = ctor.getDeclaringClass();
+        final String descriptor = Type.getConstructorDescriptor(ctor);
+        final String[] res = new String[1];
+        final String resource = type.getName().replace('.', '/') + ".class";
+        final ClassLoader loader = type.getClassLoader();
+        // bootstrap loader types
+        try (InputStream in = loader == null
+                ? ClassLoader.getSystemResourceAsStream(resource) : loader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            new ClassReader(in).accept(new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public MethodVisitor visitMethod(final int access, final String name, final String desc,
+                                                 final String signature, final String[] exceptions) {
+                    if (CONSTRUCTOR.equals(name) && descriptor.equals(desc)) {
+                        res[0] = signature;
+                    }
+                    return null;
+                }
+            }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        }
+        return res[0];
+    }
+}
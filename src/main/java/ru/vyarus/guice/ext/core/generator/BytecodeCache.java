@@ -0,0 +1,263 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Persistent (on-disk) cache of generated classes bytecode. Used to avoid class generation on each jvm start:
+ * on cache hit class is defined directly from stored bytes.
+ * <p>
+ * Cache entry is stored per generated class and contains key, computed from original type bytecode
+ * (including super classes, all implemented interfaces, type annotations and constructor parameters annotations),
+ * scope and anchor classes and generation engine. When abstract type changes (or different scope, anchor or engine
+ * is used), key will not match and entry will be re-generated (stale entries invalidated automatically).
+ * <p>
+ * Generator version is also a part of the key. When version is not available (generator classes loaded from
+ * classes directory), generation engine bytecode is used instead.
+ * <p>
+ * Any cache read or write error is not critical: class will be simply generated as usual.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicClassGenerator#setCacheDirectory(Path)
+ * @since 18.10.2026
+ */
+final class BytecodeCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BytecodeCache.class);
+
+    /**
+     * Must be increased on each change in generated classes structure to invalidate old entries.
+     */
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x47454E43;
+    private static final String EXTENSION = ".bin";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+
+    BytecodeCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Computes cache key for generated class. If original type bytecode could not be resolved (e.g. class was
+     * generated dynamically), then cache can't be used.
+     *
+     * @param engine generation engine
+     * @param spec   generated class specification
+     * @return cache key or null if key could not be computed
+     */
+    public String key(final ClassGenerationEngine engine, final GenerationSpec spec) {
+        final Class<?> type = spec.getType();
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, String.valueOf(FORMAT_VERSION));
+            update(digest, System.getProperty("java.version"));
+            if (!updateVersion(digest, engine)) {
+                return null;
+            }
+            update(digest, engine.getClass().getName());
+            update(digest, spec.getScope() == null ? "" : spec.getScope().getName());
+            update(digest, spec.getAnchor() == null ? "" : spec.getAnchor().getName());
+            for (Method method : spec.getDispatchedMethods()) {
+                update(digest, method.toString());
+            }
+            for (Class<?> hierarchyType : hierarchy(type)) {
+                final byte[] bytecode = readBytecode(hierarchyType);
+                if (bytecode == null) {
+                    return null;
+                }
+                digest.update(bytecode);
+            }
+            // annotation values are stored in original type, but defaults are declared in annotation itself
+            for (Class<?> annotationType : annotationTypes(type)) {
+                update(digest, annotationType.getName());
+                final byte[] bytecode = readBytecode(annotationType);
+                if (bytecode != null) {
+                    digest.update(bytecode);
+                }
+            }
+            return toHex(digest.digest());
+        } catch (Exception ex) {
+            LOGGER.warn("Failed to compute bytecode cache key for " + type.getName(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * @param className generated class name
+     * @param key       expected cache key
+     * @return cached bytecode or null if no entry exists or entry is stale
+     */
+    public byte[] load(final String className, final String key) {
+        final Path file = directory.resolve(className + EXTENSION);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        byte[] res = null;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() == MAGIC && key.equals(in.readUTF())) {
+                res = new byte[in.readInt()];
+                in.readFully(res);
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to read cached bytecode from " + file, ex);
+            res = null;
+        }
+        return res;
+    }
+
+    /**
+     * Stores generated class bytecode. Entry is written into temporary file first to avoid partially written
+     * entries when the same cache directory is used concurrently.
+     *
+     * @param className generated class name
+     * @param key       cache key
+     * @param bytecode  generated class bytecode
+     */
+    public void store(final String className, final String key, final byte[] bytecode) {
+        final Path file = directory.resolve(className + EXTENSION);
+        try {
+            Files.createDirectories(directory);
+            final Path tmp = Files.createTempFile(directory, className, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+                out.writeInt(MAGIC);
+                out.writeUTF(key);
+                out.writeInt(bytecode.length);
+                out.write(bytecode);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to store generated bytecode into " + file, ex);
+        }
+    }
+
+    /**
+     * Generator version, or generation engine bytecode when version is not available (e.g. classes directory),
+     * so changed engine would invalidate entries.
+     *
+     * @return false if neither version nor engine bytecode could be resolved
+     */
+    private static boolean updateVersion(final MessageDigest digest, final ClassGenerationEngine engine)
+            throws IOException {
+        final Package pkg = DynamicClassGenerator.class.getPackage();
+        final String version = pkg == null ? null : pkg.getImplementationVersion();
+        if (version != null) {
+            update(digest, version);
+            return true;
+        }
+        update(digest, "no-version");
+        final byte[] bytecode = readBytecode(engine.getClass());
+        if (bytecode != null) {
+            digest.update(bytecode);
+        }
+        return bytecode != null;
+    }
+
+    /**
+     * @return type, its super classes (except object) and all implemented interfaces
+     */
+    private static Set<Class<?>> hierarchy(final Class<?> type) {
+        final Set<Class<?>> res = new LinkedHashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (!Object.class.equals(current) && res.add(current)) {
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return type and constructor parameters annotation types (sorted by name)
+     */
+    private static Collection<Class<?>> annotationTypes(final Class<?> type) {
+        final Map<String, Class<?>> res = new TreeMap<>();
+        for (java.lang.annotation.Annotation ann : type.getAnnotations()) {
+            res.put(ann.annotationType().getName(), ann.annotationType());
+        }
+        for (Constructor<?> ctor : type.getDeclaredConstructors()) {
+            for (java.lang.annotation.Annotation[] anns : ctor.getParameterAnnotations()) {
+                for (java.lang.annotation.Annotation ann : anns) {
+                    res.put(ann.annotationType().getName(), ann.annotationType());
+                }
+            }
+        }
+        return res.values();
+    }
+
+    private static byte[] readBytecode(final Class<?> type) throws IOException {
+        final ClassLoader loader = type.getClassLoader() == null
+                ? ClassLoader.getSystemClassLoader() : type.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if (in == null) {
+                return null;
+            }
+            final ByteArrayOutputStream res = new ByteArrayOutputStream();
+            copy(in, res);
+            return res.toByteArray();
+        }
+    }
+
+    private static void copy(final InputStream in, final OutputStream out) throws IOException {
+        final byte[] buffer = new byte[4096];
+        int read = in.read(buffer);
+        while (read != -1) {
+            out.write(buffer, 0, read);
+            read = in.read(buffer);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final char[] res = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            res[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            res[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(res);
+    }
+}
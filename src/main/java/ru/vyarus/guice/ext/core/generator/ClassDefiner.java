@@ -0,0 +1,232 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.ext.core.util.Utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.ProtectionDomain;
+
+/**
+ * Defines generated classes. On java 9 and above, classes are defined through private lookup of original type
+ * ({@code MethodHandles.privateLookupIn(type, lookup).defineClass(bytes)}), so reflective access to
+ * {@code ClassLoader.defineClass} is not required. On java 8 {@code ClassLoader.defineClass} is called
+ * reflectively.
+ * <p>
+ * In {@link ClassDefinitionMode#CHILD_LOADER} mode, each class is defined in its own child class loader.
+ * <p>
+ * Jdk 9+ api is called through method handles (resolved once) because of java 8 compatibility.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ClassDefinitionMode
+ * @since 18.10.2026
+ */
+final class ClassDefiner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassDefiner.class);
+
+    private static final MethodHandle PRIVATE_LOOKUP;
+    private static final MethodHandle DEFINE_CLASS;
+    private static final MethodHandle DEFINE_HIDDEN_CLASS;
+    private static final Object NO_OPTIONS;
+    private static final Method CLASS_LOADER_DEFINE;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle privateLookup = null;
+        MethodHandle defineClass = null;
+        MethodHandle defineHidden = null;
+        Object options = null;
+        Method loaderDefine = null;
+        try {
+            if (Utils.isJava8()) {
+                loaderDefine = ClassLoader.class.getDeclaredMethod("defineClass",
+                        String.class, byte[].class, int.class, int.class, ProtectionDomain.class);
+                loaderDefine.setAccessible(true);
+            } else {
+                privateLookup = lookup.findStatic(MethodHandles.class, "privateLookupIn",
+                        MethodType.methodType(MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+                defineClass = lookup.findVirtual(MethodHandles.Lookup.class, "defineClass",
+                        MethodType.methodType(Class.class, byte[].class));
+                final Class<?> optionType = findHiddenClassOption();
+                if (optionType != null) {
+                    options = Array.newInstance(optionType, 0);
+                    defineHidden = lookup.findVirtual(MethodHandles.Lookup.class, "defineHiddenClass",
+                            MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class,
+                                    options.getClass())).asFixedArity();
+                }
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to resolve class definition api", ex);
+        }
+        PRIVATE_LOOKUP = privateLookup;
+        DEFINE_CLASS = defineClass;
+        DEFINE_HIDDEN_CLASS = defineHidden;
+        NO_OPTIONS = options;
+        CLASS_LOADER_DEFINE = loaderDefine;
+    }
+
+    private ClassDefiner() {
+    }
+
+    /**
+     * @return true if hidden classes are supported by current jvm (java 15 and above)
+     */
+    static boolean isHiddenClassesSupported() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Defines generated class in the same package (and class loader) as original type.
+     *
+     * @param mode      definition mode
+     * @param type      original type
+     * @param className generated class name
+     * @param bytecode  generated class bytecode
+     * @return defined class
+     * @throws Exception on definition errors
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    static Class<?> define(final ClassDefinitionMode mode, final Class<?> type, final String className,
+                           final byte[] bytecode) throws Exception {
+        try {
+            return doDefine(mode, type, className, bytecode);
+        } catch (Throwable ex) {
+            Throwables.throwIfInstanceOf(ex, Exception.class);
+            Throwables.throwIfUnchecked(ex);
+            throw new IllegalStateException("Failed to define class " + className, ex);
+        }
+    }
+
+    /**
+     * Generated class, defined in child class loader, could access only public and protected members of
+     * original type (different runtime package).
+     *
+     * @param spec generation specification
+     * @return true if generated class could be defined in child class loader
+     */
+    static boolean isChildLoaderCompatible(final GenerationSpec spec) {
+        final Class<?> type = spec.getType();
+        boolean res = isPublic(type) && !hasPackageMembers(type.getDeclaredMethods())
+                && (spec.getAnchor() == null || isPublic(spec.getAnchor()));
+        if (res && spec.getConstructor() != null) {
+            res = !hasPackageMembers(spec.getConstructor())
+                    && isPublic(spec.getConstructor().getParameterTypes());
+        } else if (res && !type.isInterface()) {
+            // all non-private constructors are inherited
+            res = !hasPackageMembers(type.getDeclaredConstructors());
+            for (Constructor<?> ctor : type.getDeclaredConstructors()) {
+                res &= Modifier.isPrivate(ctor.getModifiers()) || isPublic(ctor.getParameterTypes());
+            }
+        }
+        for (Annotation ann : spec.getAnnotations()) {
+            res &= isPublic(ann.annotationType());
+        }
+        // abstract methods of super types
+        Class<?> current = type.getSuperclass();
+        while (res && current != null && current != Object.class) {
+            res = !hasPackageMembers(current.getDeclaredMethods());
+            current = current.getSuperclass();
+        }
+        return res;
+    }
+
+    private static Class<?> doDefine(final ClassDefinitionMode mode, final Class<?> type, final String className,
+                                     final byte[] bytecode) throws Throwable {
+        final Class<?> res;
+        if (mode == ClassDefinitionMode.CHILD_LOADER) {
+            res = new GeneratedClassLoader(type.getClassLoader())
+                    .define(className, bytecode, type.getProtectionDomain());
+        } else if (CLASS_LOADER_DEFINE != null) {
+            Preconditions.checkState(mode == ClassDefinitionMode.LOOKUP,
+                    "%s class definition mode is not supported on java 8", mode);
+            res = (Class<?>) CLASS_LOADER_DEFINE.invoke(type.getClassLoader(), className, bytecode, 0,
+                    bytecode.length, type.getProtectionDomain());
+        } else {
+            final MethodHandles.Lookup lookup =
+                    (MethodHandles.Lookup) PRIVATE_LOOKUP.invoke(type, MethodHandles.lookup());
+            if (mode == ClassDefinitionMode.HIDDEN) {
+                Preconditions.checkState(DEFINE_HIDDEN_CLASS != null,
+                        "Hidden classes are not supported by current java version (15 or above required)");
+                res = defineHidden(lookup, bytecode);
+            } else {
+                res = (Class<?>) DEFINE_CLASS.invoke(lookup, bytecode);
+            }
+        }
+        return res;
+    }
+
+    private static Class<?> defineHidden(final MethodHandles.Lookup lookup, final byte[] bytecode) throws Throwable {
+        Class<?> res;
+        try {
+            res = ((MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(lookup, bytecode, true, NO_OPTIONS))
+                    .lookupClass();
+        } catch (IllegalAccessException ex) {
+            // hidden class requires full privilege lookup, which is not possible for types from other modules
+            // (e.g. loaded by different class loader)
+            LOGGER.debug("Hidden class can't be defined for {} ({}), defining usual class instead",
+                    lookup.lookupClass().getName(), ex.getMessage());
+            res = (Class<?>) DEFINE_CLASS.invoke(lookup, bytecode);
+        }
+        return res;
+    }
+
+    private static boolean isPublic(final Class<?>... types) {
+        boolean res = true;
+        for (Class<?> type : types) {
+            Class<?> current = type;
+            while (res && current != null) {
+                res = current.isPrimitive() || Modifier.isPublic(current.getModifiers());
+                current = current.isArray() ? current.getComponentType() : current.getDeclaringClass();
+            }
+        }
+        return res;
+    }
+
+    private static boolean hasPackageMembers(final Executable... members) {
+        for (Executable member : members) {
+            final int modifiers = member.getModifiers();
+            final boolean packagePrivate = !Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers)
+                    && !Modifier.isPrivate(modifiers);
+            // constructors or abstract methods (implemented or intercepted in generated class)
+            if (packagePrivate && (member instanceof Constructor || Modifier.isAbstract(modifiers))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> findHiddenClassOption() {
+        for (Class<?> cls : MethodHandles.Lookup.class.getDeclaredClasses()) {
+            if ("ClassOption".equals(cls.getSimpleName())) {
+                return cls;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Dedicated class loader for single generated class. Generated class could be unloaded together with its
+     * class loader, independently of original type class loader.
+     */
+    private static class GeneratedClassLoader extends ClassLoader {
+
+        GeneratedClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(final String name, final byte[] bytecode, final ProtectionDomain domain) {
+            return defineClass(name, bytecode, 0, bytecode.length, domain);
+        }
+    }
+}
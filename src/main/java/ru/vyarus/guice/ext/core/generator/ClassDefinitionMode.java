@@ -0,0 +1,45 @@
+package ru.vyarus.guice.ext.core.generator;
+
+/**
+ * Generated classes definition mode (see {@link DynamicClassGenerator#setDefinitionMode(ClassDefinitionMode)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public enum ClassDefinitionMode {
+
+    /**
+     * Class is defined with {@code MethodHandles.privateLookupIn(type).defineClass(bytes)} (java 9 and above)
+     * as usual class in original type class loader. On java 8 reflective {@code ClassLoader.defineClass} is used.
+     * <p>
+     * Default mode.
+     */
+    LOOKUP,
+
+    /**
+     * Class is defined as hidden class with {@code Lookup.defineHiddenClass} (java 15 and above). Hidden class
+     * could not be resolved by name from class loader and could be unloaded as soon as it is not referenced
+     * anymore (e.g. together with injector), without waiting for class loader unloading.
+     * <p>
+     * Guice generated classes (aop subclasses and fast classes for constructor calls) can't reference hidden class
+     * by name, so this mode requires guice bytecode generation to be disabled
+     * ({@code -Dguice_bytecode_gen_option=DISABLED}): guice would use reflection and aop would not be available.
+     * <p>
+     * Hidden class could be defined only for types from the same module (for class path: loaded by the same
+     * class loader as generator). For other types usual class would be defined (as in {@link #LOOKUP} mode).
+     */
+    HIDDEN,
+
+    /**
+     * Each generated class is defined in its own small child class loader of original type class loader.
+     * Generated classes are referenced weakly (by generator), so generated class (together with its class loader)
+     * could be unloaded as soon as it is not referenced anymore (e.g. when injector or plugin is dropped),
+     * without waiting for original type class loader unloading. Unloaded class would be generated again on
+     * next request. Works on java 8 too.
+     * <p>
+     * Generated class is in different runtime package, so it can't access package-private members of
+     * original type. If original type is not public, or has package-private abstract methods or constructors (or
+     * non-public types in generated class signature), usual class is defined (as in {@link #LOOKUP} mode).
+     */
+    CHILD_LOADER
+}
@@ -0,0 +1,24 @@
+package ru.vyarus.guice.ext.core.generator;
+
+/**
+ * Bytecode generation engine, used by {@link DynamicClassGenerator} to write implementation class for abstract
+ * type. Engine is responsible for annotations, constructor and constructor generics signature copying
+ * (see {@link GenerationSpec} for exact requirements). Generated class definition is performed by generator.
+ * <p>
+ * Engine must be thread safe: different types could be generated concurrently.
+ * <p>
+ * Available engines: {@link JavassistEngine} (default) and {@link AsmEngine}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicClassGenerator#setEngine(ClassGenerationEngine)
+ * @since 18.10.2026
+ */
+public interface ClassGenerationEngine {
+
+    /**
+     * @param spec generated class specification
+     * @return generated class bytecode
+     * @throws Exception on generation errors
+     */
+    byte[] generate(GenerationSpec spec) throws Exception;
+}
@@ -0,0 +1,138 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.base.Preconditions;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Direct dispatch support: abstract methods, annotated with registered annotations, are implemented in generated
+ * class with direct {@link MethodHandler} call (instead of guice aop). Each dispatched method is bound to static
+ * final field of generated class, initialized (once) in class static initializer with {@link #handlers(Class, int)}.
+ * <p>
+ * Class is public only because generated classes call it: it's not intended to be used directly (use
+ * {@link DynamicClassGenerator} methods).
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicClassGenerator#setDirectDispatch(boolean)
+ * @since 18.10.2026
+ */
+public final class DirectDispatch {
+
+    /**
+     * Generated field name prefix (field per dispatched method).
+     */
+    public static final String FIELD_PREFIX = "dispatch$";
+
+    private static final Map<Class<? extends Annotation>, MethodHandlerFactory> FACTORIES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+
+    private DirectDispatch() {
+    }
+
+    /**
+     * Called from generated class static initializer.
+     *
+     * @param generated generated class
+     * @param expected  dispatched methods count in generated class
+     * @return handlers for dispatched methods (in generation order)
+     * @throws IllegalStateException if handler registrations changed after class generation
+     */
+    public static MethodHandler[] handlers(final Class<?> generated, final int expected) {
+        final Class<?> type = generated.getSuperclass() == Object.class
+                ? generated.getInterfaces()[0] : generated.getSuperclass();
+        final Map<Method, MethodHandlerFactory> methods = findMethods(type);
+        Preconditions.checkState(methods.size() == expected,
+                "Generated class %s dispatch %s methods, but %s handler methods found now (handlers "
+                        + "registration changed after class generation?)", generated.getName(), expected,
+                methods.size());
+        final MethodHandler[] res = new MethodHandler[expected];
+        int i = 0;
+        for (Map.Entry<Method, MethodHandlerFactory> entry : methods.entrySet()) {
+            res[i++] = Preconditions.checkNotNull(entry.getValue().create(type, entry.getKey()),
+                    "Null handler created for method %s", entry.getKey());
+        }
+        return res;
+    }
+
+    static void setEnabled(final boolean enabled) {
+        DirectDispatch.enabled = enabled;
+    }
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void register(final Class<? extends Annotation> annotation, final MethodHandlerFactory factory) {
+        Preconditions.checkNotNull(annotation, "Annotation required");
+        if (factory == null) {
+            FACTORIES.remove(annotation);
+        } else {
+            FACTORIES.put(annotation, factory);
+        }
+    }
+
+    /**
+     * @param type abstract type
+     * @return methods to dispatch directly (empty if direct dispatch disabled)
+     */
+    static List<Method> dispatchedMethods(final Class<?> type) {
+        return enabled && !FACTORIES.isEmpty()
+                ? new ArrayList<>(findMethods(type).keySet()) : Collections.<Method>emptyList();
+    }
+
+    /**
+     * Dispatched methods are public abstract methods annotated with registered annotation. Methods are sorted
+     * (by name and parameters) to get the same order on generation and generated class initialization.
+     */
+    private static Map<Method, MethodHandlerFactory> findMethods(final Class<?> type) {
+        final List<Method> candidates = new ArrayList<>();
+        final Set<String> signatures = new HashSet<>();
+        // skip implemented methods (interface method could be implemented in abstract class)
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) {
+                signatures.add(signature(method));
+            }
+        }
+        for (Method method : type.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers()) && signatures.add(signature(method))) {
+                candidates.add(method);
+            }
+        }
+        Collections.sort(candidates, new Comparator<Method>() {
+            @Override
+            public int compare(final Method o1, final Method o2) {
+                return signature(o1).compareTo(signature(o2));
+            }
+        });
+        final Map<Method, MethodHandlerFactory> res = new LinkedHashMap<>();
+        for (Method method : candidates) {
+            for (Annotation ann : method.getAnnotations()) {
+                final MethodHandlerFactory factory = FACTORIES.get(ann.annotationType());
+                if (factory != null) {
+                    res.put(method, factory);
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    private static String signature(final Method method) {
+        final StringBuilder res = new StringBuilder(method.getName()).append('(');
+        for (Class<?> param : method.getParameterTypes()) {
+            res.append(param.getName()).append(';');
+        }
+        return res.append(')').toString();
+    }
+}
@@ -1,18 +1,19 @@
 package ru.vyarus.guice.ext.core.generator;
 
 import com.google.common.base.Preconditions;
-import com.google.inject.ImplementedBy;
-import com.google.inject.Inject;
-import com.google.inject.ProvidedBy;
-import com.google.inject.internal.Annotations;
-import javassist.*;
-import javassist.bytecode.*;
-import javassist.bytecode.annotation.Annotation;
-import ru.vyarus.guice.ext.core.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Dynamically generates new class from abstract class or interface.
@@ -35,12 +36,13 @@ import java.lang.reflect.Modifier;
  * <p>Don't use scope annotations directly - instead wrap them into
  * {@link ru.vyarus.guice.ext.core.generator.ScopeAnnotation}, because guice doesn't allow scope definition on
  * abstract types.</p>
+ * <p>Generated classes bytecode could be cached on disk to avoid generation on each application start
+ * (see {@link #setCacheDirectory(Path)}).</p>
  *
  * @author Vyacheslav Rusakov
  * @see com.google.inject.internal.DynamicClassProvider
  * @since 10.12.2014
  */
-@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:GodClass", "PMD.GodClass"})
 public final class DynamicClassGenerator {
 
     /**
@@ -49,10 +51,132 @@ public final class DynamicClassGenerator {
     public static final String DYNAMIC_CLASS_POSTFIX = "$GuiceDynamicClass";
     public static final String JAVAX_INJECT = "javax.inject.Inject";
     public static final String JAKARTA_INJECT = "jakarta.inject.Inject";
+    /**
+     * System property to enable persistent bytecode cache: value must be cache directory path.
+     */
+    public static final String CACHE_DIR_PROPERTY = "guice.ext.generator.cache";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamicClassGenerator.class);
+    private static final GeneratedClassRegistry REGISTRY = new GeneratedClassRegistry();
+
+    private static volatile BytecodeCache cache = createCache(System.getProperty(CACHE_DIR_PROPERTY));
+    private static volatile ClassDefinitionMode definitionMode = ClassDefinitionMode.LOOKUP;
+    // default engine created lazily to avoid javassist loading when generation is not required
+    private static volatile ClassGenerationEngine engine;
 
     private DynamicClassGenerator() {
     }
 
+    /**
+     * Enables persistent bytecode cache: generated classes bytecode will be stored in provided directory and
+     * re-used on next application start (so classes would not be generated again). Cache entries are invalidated
+     * automatically when abstract type (or its super classes) changes or different scope or anchor used.
+     * <p>
+     * Cache could be also enabled with {@link #CACHE_DIR_PROPERTY} system property.
+     *
+     * @param directory cache directory (will be created if not exists) or null to disable cache
+     */
+    public static void setCacheDirectory(final Path directory) {
+        cache = directory == null ? null : new BytecodeCache(directory);
+    }
+
+    /**
+     * @return bytecode cache directory or null if cache is not enabled
+     */
+    public static Path getCacheDirectory() {
+        final BytecodeCache current = cache;
+        return current == null ? null : current.getDirectory();
+    }
+
+    /**
+     * Changes generated classes definition mode. By default, classes are defined with
+     * {@link ClassDefinitionMode#LOOKUP} (private lookup of original type). {@link ClassDefinitionMode#HIDDEN}
+     * mode could be used on java 15 and above when guice bytecode generation is disabled (no aop).
+     * {@link ClassDefinitionMode#CHILD_LOADER} mode allows unloading generated classes independently of
+     * original types (e.g. for dynamically reloaded modules).
+     * <p>
+     * Affects only classes generated after mode change.
+     *
+     * @param mode definition mode
+     * @throws IllegalStateException if hidden mode is not supported by current jvm
+     */
+    public static void setDefinitionMode(final ClassDefinitionMode mode) {
+        Preconditions.checkNotNull(mode, "Definition mode required");
+        Preconditions.checkState(mode != ClassDefinitionMode.HIDDEN || ClassDefiner.isHiddenClassesSupported(),
+                "Hidden classes are not supported by current java version (15 or above required)");
+        definitionMode = mode;
+        REGISTRY.clearFailures();
+    }
+
+    /**
+     * @return current generated classes definition mode
+     */
+    public static ClassDefinitionMode getDefinitionMode() {
+        return definitionMode;
+    }
+
+    /**
+     * Changes bytecode generation engine. By default, {@link JavassistEngine} is used. {@link AsmEngine} could be
+     * used instead to speed up generation (requires asm in classpath).
+     * <p>
+     * Affects only classes generated after engine change.
+     *
+     * @param engine generation engine or null to use default engine
+     */
+    public static void setEngine(final ClassGenerationEngine engine) {
+        DynamicClassGenerator.engine = engine;
+        REGISTRY.clearFailures();
+    }
+
+    /**
+     * @return current generation engine
+     */
+    public static ClassGenerationEngine getEngine() {
+        ClassGenerationEngine res = engine;
+        if (res == null) {
+            res = new JavassistEngine();
+            engine = res;
+        }
+        return res;
+    }
+
+    /**
+     * Enables direct dispatch mode: abstract methods annotated with registered annotations
+     * (see {@link #registerMethodHandler(Class, MethodHandlerFactory)}) are implemented in generated class with
+     * direct {@link MethodHandler} call. Handler is created once per method (generated class is initialized
+     * right after definition), so method call is a direct handler invocation instead of guice aop interceptors chain.
+     * <p>
+     * Other abstract methods stay abstract and must be handled with aop as usual. Affects only classes generated
+     * after mode change.
+     *
+     * @param enable true to enable direct dispatch mode
+     */
+    public static void setDirectDispatch(final boolean enable) {
+        DirectDispatch.setEnabled(enable);
+        REGISTRY.clearFailures();
+    }
+
+    /**
+     * @return true if direct dispatch mode enabled
+     */
+    public static boolean isDirectDispatch() {
+        return DirectDispatch.isEnabled();
+    }
+
+    /**
+     * Registers handler for abstract methods annotated with provided annotation (used only when direct dispatch
+     * mode is enabled with {@link #setDirectDispatch(boolean)}). Handlers must be registered before classes
+     * generation.
+     *
+     * @param annotation method annotation
+     * @param factory    handler factory or null to remove registration
+     */
+    public static void registerMethodHandler(final Class<? extends java.lang.annotation.Annotation> annotation,
+                                             final MethodHandlerFactory factory) {
+        DirectDispatch.register(annotation, factory);
+        REGISTRY.clearFailures();
+    }
+
     /**
      * Shortcut for {@link #generate(Class, Class, Class)} method to create default scoped classes.
      * <p>
@@ -104,222 +228,189 @@ public final class DynamicClassGenerator {
     public static <T> Class<T> generate(final Class<T> type,
                                         final Class<? extends java.lang.annotation.Annotation> scope,
                                         final Class<?> anchor) {
-        Preconditions.checkNotNull(type, "Original type required");
-        Preconditions.checkArgument(type.isInterface() || Modifier.isAbstract(type.getModifiers()),
-                "Type must be interface or abstract class, but provided type is not: %s", type.getName());
+        checkType(type);
 
-        final String targetClassName = type.getName() + DYNAMIC_CLASS_POSTFIX;
-        final ClassLoader classLoader = type.getClassLoader();
-
-        /*
-         * Synchronization is required to avoid double generation and consequent problems.
-         * Very unlikely that this method would be called too often and synchronization become bottleneck.
-         * Using original class as monitor to allow concurrent generation for different classes.
-         */
-        synchronized (type) {
-            Class<?> targetClass;
-            try {
-                // will work if class was already generated
-                targetClass = classLoader.loadClass(targetClassName);
-            } catch (ClassNotFoundException ex) {
-                targetClass = generateClass(type, targetClassName, classLoader, scope, anchor);
+        // fast path: lock-free lookup for already generated classes
+        Class<?> targetClass = REGISTRY.get(type, scope, anchor);
+        if (targetClass == null) {
+            checkFailure(type, scope, anchor);
+            /*
+             * Synchronization is required to avoid double generation and consequent problems.
+             * Only first generation for type is synchronized: all other calls would be resolved from registry.
+             * Using original class as monitor to allow concurrent generation for different classes.
+             */
+            synchronized (type) {
+                targetClass = REGISTRY.get(type, scope, anchor);
+                if (targetClass == null) {
+                    checkFailure(type, scope, anchor);
+                    final String targetClassName = type.getName() + DYNAMIC_CLASS_POSTFIX;
+                    final ClassLoader classLoader = type.getClassLoader();
+                    try {
+                        // will work if class was already generated (e.g. at build time or with different scope)
+                        targetClass = classLoader.loadClass(targetClassName);
+                    } catch (ClassNotFoundException ex) {
+                        try {
+                            targetClass = generateClass(type, targetClassName, scope, anchor);
+                        } catch (DynamicClassException failure) {
+                            REGISTRY.registerFailure(type, scope, anchor, failure);
+                            throw failure;
+                        }
+                    }
+                    REGISTRY.register(type, scope, anchor, targetClass);
+                }
             }
-            return (Class<T>) targetClass;
         }
+        return (Class<T>) targetClass;
     }
 
-    private static Class<?> generateClass(final Class<?> type, final String targetClassName,
-                                          final ClassLoader classLoader,
-                                          final Class<? extends java.lang.annotation.Annotation> scope,
-                                          final Class<?> anchor) {
-        try {
-            // have to use custom pool because original type classloader could be thrown away
-            // and all cached CtClass objects would be stale
-            final ClassPool classPool = new ClassPool();
-            classPool.appendClassPath(new LoaderClassPath(classLoader));
-
-            final CtClass impl = generateCtClass(classPool, targetClassName, type, scope, anchor);
-            // incompatible javassist apis for java 8 and >=9
-            return Utils.isJava8() ? impl.toClass(classLoader, type.getProtectionDomain()) : impl.toClass(type);
-        } catch (Exception ex) {
-            throw new DynamicClassException("Failed to generate class for " + type.getName(), ex);
-        }
+    /**
+     * Failed generations are remembered: generation for the same type (scope and anchor) would fail immediately
+     * with the same cause (without generation attempt). Use this method to clear remembered failures (e.g. in
+     * development mode, after type fix). Failures are also cleared when generator configuration
+     * (engine, definition mode, direct dispatch or method handlers) changes.
+     */
+    public static void clearFailures() {
+        REGISTRY.clearFailures();
     }
 
-    private static CtClass generateCtClass(final ClassPool classPool, final String targetClassName, final Class type,
-                                           final Class<? extends java.lang.annotation.Annotation> scope,
-                                           final Class<?> anchor)
-            throws Exception {
+    /**
+     * Shortcut for {@link #generateAll(Collection, Class, Class, ForkJoinPool)} using common fork-join pool.
+     *
+     * @param types  interfaces or abstract classes
+     * @param scope  scope annotation to apply on generated classes (may be null for default prototype scope)
+     * @param anchor existing binding to depend generated classes on (may be null)
+     * @return generation result with generated classes and errors
+     */
+    public static GenerationResult generateAll(final Collection<Class<?>> types,
+                                               final Class<? extends java.lang.annotation.Annotation> scope,
+                                               final Class<?> anchor) {
+        return generateAll(types, scope, anchor, ForkJoinPool.commonPool());
+    }
 
-        final CtClass ctType = classPool.get(type.getName());
-        final CtClass ctAnchor = anchor == null ? null : classPool.getCtClass(anchor.getName());
-        final CtClass impl;
-        if (type.isInterface()) {
-            impl = classPool.makeClass(targetClassName);
-            impl.addInterface(ctType);
-        } else {
-            impl = classPool.makeClass(targetClassName, ctType);
-            final Constructor diConstructor = findDIConstructor(type);
-            if (diConstructor != null) {
-                copyConstructor(impl, ctType, diConstructor, ctAnchor);
+    /**
+     * Generates classes for many types concurrently. Useful when many abstract types registered in module
+     * ({@code bind(MyType.class).to(result.get(MyType.class))}) to not generate classes one by one.
+     * <p>
+     * Generation of different types is independent (only generation of the same type is synchronized),
+     * so types are generated in parallel. Generation errors are collected per type and does not prevent
+     * generation of other types.
+     *
+     * @param types  interfaces or abstract classes
+     * @param scope  scope annotation to apply on generated classes (may be null for default prototype scope)
+     * @param anchor existing binding to depend generated classes on (may be null)
+     * @param pool   pool to execute generation on
+     * @return generation result with generated classes and errors
+     */
+    public static GenerationResult generateAll(final Collection<Class<?>> types,
+                                               final Class<? extends java.lang.annotation.Annotation> scope,
+                                               final Class<?> anchor,
+                                               final ForkJoinPool pool) {
+        // errors are collected directly to avoid exception re-creation by fork-join task
+        final Map<Class<?>, RuntimeException> failures = new ConcurrentHashMap<>();
+        final Map<Class<?>, ForkJoinTask<Class<?>>> tasks = new LinkedHashMap<>();
+        for (final Class<?> type : types) {
+            if (!tasks.containsKey(type)) {
+                tasks.put(type, pool.submit(new Callable<Class<?>>() {
+                    @Override
+                    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+                    public Class<?> call() {
+                        try {
+                            return generate(type, scope, anchor);
+                        } catch (RuntimeException ex) {
+                            failures.put(type, ex);
+                            return null;
+                        }
+                    }
+                }));
             }
         }
-        if (anchor != null && impl.getConstructors().length == 0) {
-            // create new constructor with anchor dependency
-            createAnchorConstructor(impl, ctAnchor);
+        final Map<Class<?>, Class<?>> generated = new LinkedHashMap<>();
+        final Map<Class<?>, RuntimeException> errors = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, ForkJoinTask<Class<?>>> entry : tasks.entrySet()) {
+            final Class<?> res = entry.getValue().join();
+            if (res == null) {
+                errors.put(entry.getKey(), failures.get(entry.getKey()));
+            } else {
+                generated.put(entry.getKey(), res);
+            }
         }
-        final ConstPool constPool = impl.getClassFile().getConstPool();
-        final AnnotationsAttribute annotations = copyAnnotations(classPool, constPool, type);
-        impl.getClassFile().addAttribute(annotations);
-        applyScopeAnnotation(classPool, annotations, type, scope);
-        return impl;
+        return new GenerationResult(generated, errors);
     }
 
-    private static void copyConstructor(final CtClass impl, final CtClass ctType, final Constructor ctor,
-                                        final CtClass anchor) throws Exception {
-        final ClassPool classPool = impl.getClassPool();
-        final CtClass[] parameters = JavassistUtils.convertTypes(classPool, ctor.getParameterTypes());
-        final CtConstructor ctConstructor = CtNewConstructor.make(
-                parameters,
-                JavassistUtils.convertTypes(classPool, ctor.getExceptionTypes()),
-                CtNewConstructor.PASS_PARAMS, null, null, impl);
-        if (anchor != null) {
-            ctConstructor.addParameter(anchor);
+    private static void checkFailure(final Class<?> type,
+                                     final Class<? extends java.lang.annotation.Annotation> scope,
+                                     final Class<?> anchor) {
+        final DynamicClassException failure = REGISTRY.getFailure(type, scope, anchor);
+        if (failure != null) {
+            // new exception for correct stack trace
+            throw new DynamicClassException(failure.getMessage(), failure.getCause());
         }
-        final ConstPool constPool = impl.getClassFile().getConstPool();
-        final MethodInfo methodInfo = ctConstructor.getMethodInfo();
-        methodInfo.addAttribute(copyAnnotations(classPool, constPool, ctor));
-        methodInfo.addAttribute(copyConstructorParametersAnnotations(classPool, constPool, ctor, anchor != null));
-        final SignatureAttribute info = copyConstructorGenericsSignature(constPool, parameters, ctType, anchor);
-        if (info != null) {
-            methodInfo.addAttribute(info);
-        }
-        impl.addConstructor(ctConstructor);
-    }
-
-    private static void createAnchorConstructor(final CtClass impl, final CtClass anchor)
-            throws Exception {
-        final ClassPool classPool = impl.getClassPool();
-        final CtConstructor ctConstructor = CtNewConstructor.make(
-                new CtClass[]{anchor},
-                null,
-                CtNewConstructor.PASS_NONE, null, null, impl);
-        final ConstPool constPool = impl.getClassFile().getConstPool();
-        final MethodInfo methodInfo = ctConstructor.getMethodInfo();
-        // add injection annotation
-        final AnnotationsAttribute attr = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
-        final Annotation annotation = new Annotation(constPool, classPool.get(Inject.class.getName()));
-        attr.addAnnotation(annotation);
-        methodInfo.addAttribute(attr);
-        impl.addConstructor(ctConstructor);
     }
 
-    private static Constructor findDIConstructor(final Class<?> type) {
-        Constructor target = null;
-        for (Constructor ctor : type.getConstructors()) {
-            if (ctor.isAnnotationPresent(Inject.class)) {
-                target = ctor;
-                break;
-            }
-            // manual search to avoid direct dependency on javax and jakarta namespace
-            for (java.lang.annotation.Annotation ann : ctor.getAnnotations()) {
-                final String name = ann.annotationType().getName();
-                if (JAVAX_INJECT.equals(name) || JAKARTA_INJECT.equals(name)) {
-                    target = ctor;
-                    break;
+    private static Class<?> generateClass(final Class<?> type, final String targetClassName,
+                                          final Class<? extends java.lang.annotation.Annotation> scope,
+                                          final Class<?> anchor) {
+        try {
+            final ClassGenerationEngine generationEngine = getEngine();
+            final GenerationSpec spec = GenerationSpec.create(type, targetClassName, scope, anchor);
+            final BytecodeCache bytecodeCache = cache;
+            final String key = bytecodeCache == null ? null : bytecodeCache.key(generationEngine, spec);
+            byte[] bytecode = key == null ? null : bytecodeCache.load(targetClassName, key);
+            if (bytecode == null) {
+                bytecode = generationEngine.generate(spec);
+                if (key != null) {
+                    bytecodeCache.store(targetClassName, key, bytecode);
                 }
             }
-        }
-        return target;
-    }
-
-    private static ParameterAnnotationsAttribute copyConstructorParametersAnnotations(
-            final ClassPool classPool, final ConstPool constPool, final Constructor ctor,
-            final boolean anchorAdded) throws Exception {
-        final int count = ctor.getParameterTypes().length;
-        final Annotation[][] paramAnnotations = new Annotation[count + (anchorAdded ? 1 : 0)][];
-        for (int i = 0; i < count; i++) {
-            final java.lang.annotation.Annotation[] anns = ctor.getParameterAnnotations()[i];
-            paramAnnotations[i] = new Annotation[anns.length];
-            for (int j = 0; j < anns.length; j++) {
-                paramAnnotations[i][j] = JavassistUtils.copyAnnotation(classPool, constPool, anns[j]);
+            ClassDefinitionMode mode = definitionMode;
+            if (mode == ClassDefinitionMode.CHILD_LOADER && !ClassDefiner.isChildLoaderCompatible(spec)) {
+                LOGGER.debug("Class {} can't be defined in child class loader (package-private access required), "
+                        + "defining in original type class loader", targetClassName);
+                mode = ClassDefinitionMode.LOOKUP;
             }
-        }
-        if (anchorAdded) {
-            paramAnnotations[count] = new Annotation[0];
-        }
-        final ParameterAnnotationsAttribute paramAnns = new ParameterAnnotationsAttribute(
-                constPool, ParameterAnnotationsAttribute.visibleTag);
-        paramAnns.setAnnotations(paramAnnotations);
-        return paramAnns;
-    }
-
-    private static void applyScopeAnnotation(final ClassPool classPool, final AnnotationsAttribute annotations,
-                                             final AnnotatedElement source,
-                                             final Class<? extends java.lang.annotation.Annotation> scope)
-            throws Exception {
-        if (scope != null) {
-            Preconditions.checkState(Annotations.isScopeAnnotation(scope),
-                    "Provided annotation %s is not scope annotation", scope.getSimpleName());
-            for (java.lang.annotation.Annotation ann : source.getAnnotations()) {
-                Preconditions.checkArgument(!(ann instanceof ScopeAnnotation),
-                        "Duplicate scope definition: scope is specified as %s and also defined "
-                                + "in @ScopeAnnotation.", scope.getSimpleName());
+            final Class<?> res = ClassDefiner.define(mode, type, targetClassName, bytecode);
+            if (!spec.getDispatchedMethods().isEmpty() && res.getName().equals(targetClassName)) {
+                // resolve direct dispatch handlers immediately (with current registrations); hidden classes
+                // are initialized on definition
+                Class.forName(targetClassName, true, res.getClassLoader());
             }
-            annotations.addAnnotation(new Annotation(annotations.getConstPool(), classPool.get(scope.getName())));
+            return res;
+        } catch (Exception ex) {
+            throw new DynamicClassException("Failed to generate class for " + type.getName(), ex);
         }
     }
 
-    private static AnnotationsAttribute copyAnnotations(final ClassPool classPool, final ConstPool constPool,
-                                                        final AnnotatedElement source) throws Exception {
-        final AnnotationsAttribute attr = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
-        if (source.getAnnotations().length > 0) {
-
-            for (java.lang.annotation.Annotation ann : source.getAnnotations()) {
-                final Annotation annotation = processAnnotation(classPool, constPool, ann);
-                if (annotation != null) {
-                    attr.addAnnotation(annotation);
-                }
-            }
+    /**
+     * Generates implementation class bytecode without loading it. Used for build-time classes generation
+     * (see {@link ru.vyarus.guice.ext.core.generator.build.DynamicClassPregenerator}): when generated class
+     * is already available in class loader, {@link #generate(Class, Class, Class)} will simply load it.
+     * <p>
+     * Generated class name is always original type name with {@link #DYNAMIC_CLASS_POSTFIX}.
+     *
+     * @param type   interface or abstract class
+     * @param scope  scope annotation to apply on generated class (may be null for default prototype scope)
+     * @param anchor existing binding to depend generated class on (to prevent binding bubbling up to root injector)
+     * @return generated class bytecode
+     */
+    public static byte[] generateBytecode(final Class<?> type,
+                                          final Class<? extends java.lang.annotation.Annotation> scope,
+                                          final Class<?> anchor) {
+        checkType(type);
+        try {
+            return getEngine().generate(
+                    GenerationSpec.create(type, type.getName() + DYNAMIC_CLASS_POSTFIX, scope, anchor));
+        } catch (Exception ex) {
+            throw new DynamicClassException("Failed to generate class for " + type.getName(), ex);
         }
-        return attr;
     }
 
-    private static Annotation processAnnotation(final ClassPool classPool, final ConstPool constPool,
-                                                final java.lang.annotation.Annotation ann) throws Exception {
-        Annotation res = null;
-        // if we copy these annotation guice will go to infinite loop
-        if (!(ann instanceof ProvidedBy || ann instanceof ImplementedBy)) {
-            Preconditions.checkState(!Annotations.isScopeAnnotation(ann.annotationType()),
-                    "Don't use scope annotations directly - use @ScopeAnnotation(TargetScope) wrapper, "
-                            + "because guice doesn't allow scope annotations on abstract types");
-            if (ann instanceof ScopeAnnotation) {
-                res = new Annotation(constPool,
-                        classPool.get(((ScopeAnnotation) ann).value().getName()));
-            } else {
-                res = JavassistUtils.copyAnnotation(classPool, constPool, ann);
-            }
-        }
-        return res;
+    private static void checkType(final Class<?> type) {
+        Preconditions.checkNotNull(type, "Original type required");
+        Preconditions.checkArgument(type.isInterface() || Modifier.isAbstract(type.getModifiers()),
+                "Type must be interface or abstract class, but provided type is not: %s", type.getName());
     }
 
-    private static SignatureAttribute copyConstructorGenericsSignature(
-            final ConstPool constPool, final CtClass[] params, final CtClass source, final CtClass anchor)
-            throws Exception {
-        final CtConstructor ctConstructor = source.getConstructor(Descriptor.ofConstructor(params));
-        String signature = null;
-        for (Object attr : ctConstructor.getMethodInfo().getAttributes()) {
-            if (attr instanceof SignatureAttribute) {
-                signature = ((SignatureAttribute) attr).getSignature();
-                break;
-            }
-        }
-        if (signature != null && anchor != null) {
-            // add anchor to generics signature
-            final String type = "L" + (anchor.getName().replaceAll("\\.", "/")) + ";";
-            final int idx = signature.lastIndexOf(')');
-            signature = signature.substring(0, idx) + type + signature.substring(idx);
-        }
-        return signature == null ? null : new SignatureAttribute(constPool, signature);
+    private static BytecodeCache createCache(final String directory) {
+        return directory == null || directory.isEmpty() ? null : new BytecodeCache(Paths.get(directory));
     }
 }
@@ -0,0 +1,147 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.collect.MapMaker;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of already generated classes. Used to avoid class loader lookups (with exception on miss) and
+ * synchronization for already generated classes: lookup is a lock-free map read.
+ * <p>
+ * Registry is weakly keyed by class loader of original type (so registry would not prevent class loader unloading).
+ * Generated classes are also referenced weakly, because generated class references its class loader (registry key).
+ * Usual class, defined directly in original type class loader ({@link ClassDefinitionMode#LOOKUP}), could not be
+ * collected before its class loader, so weak reference would not be cleared while class loader is in use.
+ * Hidden classes ({@link ClassDefinitionMode#HIDDEN}) and classes, defined in dedicated class loaders
+ * ({@link ClassDefinitionMode#CHILD_LOADER}), are collected as soon as they are not used anymore: such classes
+ * would be generated again on next request.
+ * <p>
+ * Registry also remembers generation failures (negative cache) to not repeat failing generation on each request.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicClassGenerator
+ * @since 18.10.2026
+ */
+final class GeneratedClassRegistry {
+
+    private final ConcurrentMap<ClassLoader, ConcurrentMap<Key, Reference<Class<?>>>> classes =
+            new MapMaker().weakKeys().makeMap();
+    private final ConcurrentMap<ClassLoader, ConcurrentMap<Key, DynamicClassException>> failures =
+            new MapMaker().weakKeys().makeMap();
+
+    /**
+     * @param type   original type
+     * @param scope  scope annotation (may be null)
+     * @param anchor anchor type (may be null)
+     * @return generated class or null if class was not yet generated (or registered)
+     */
+    public Class<?> get(final Class<?> type,
+                        final Class<? extends Annotation> scope,
+                        final Class<?> anchor) {
+        final ConcurrentMap<Key, Reference<Class<?>>> loaderClasses = classes.get(type.getClassLoader());
+        final Reference<Class<?>> res = loaderClasses == null ? null : loaderClasses.get(new Key(type, scope, anchor));
+        return res == null ? null : res.get();
+    }
+
+    /**
+     * @param type      original type
+     * @param scope     scope annotation (may be null)
+     * @param anchor    anchor type (may be null)
+     * @param generated generated class
+     */
+    public void register(final Class<?> type,
+                         final Class<? extends Annotation> scope,
+                         final Class<?> anchor,
+                         final Class<?> generated) {
+        forLoader(classes, type.getClassLoader())
+                .put(new Key(type, scope, anchor), new WeakReference<Class<?>>(generated));
+    }
+
+    /**
+     * @param type   original type
+     * @param scope  scope annotation (may be null)
+     * @param anchor anchor type (may be null)
+     * @return generation failure or null if generation was not failed
+     */
+    public DynamicClassException getFailure(final Class<?> type,
+                                            final Class<? extends Annotation> scope,
+                                            final Class<?> anchor) {
+        final ConcurrentMap<Key, DynamicClassException> loaderFailures = failures.get(type.getClassLoader());
+        return loaderFailures == null ? null : loaderFailures.get(new Key(type, scope, anchor));
+    }
+
+    /**
+     * @param type    original type
+     * @param scope   scope annotation (may be null)
+     * @param anchor  anchor type (may be null)
+     * @param failure generation failure
+     */
+    public void registerFailure(final Class<?> type,
+                                final Class<? extends Annotation> scope,
+                                final Class<?> anchor,
+                                final DynamicClassException failure) {
+        forLoader(failures, type.getClassLoader()).put(new Key(type, scope, anchor), failure);
+    }
+
+    /**
+     * Clear all remembered generation failures.
+     */
+    public void clearFailures() {
+        failures.clear();
+    }
+
+    private static <T> ConcurrentMap<Key, T> forLoader(final ConcurrentMap<ClassLoader, ConcurrentMap<Key, T>> map,
+                                                       final ClassLoader loader) {
+        ConcurrentMap<Key, T> res = map.get(loader);
+        if (res == null) {
+            final ConcurrentMap<Key, T> created = new ConcurrentHashMap<>();
+            res = map.putIfAbsent(loader, created);
+            if (res == null) {
+                res = created;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Generation key. Class names are used to avoid holding class references.
+     */
+    private static final class Key {
+        private final String type;
+        private final String scope;
+        private final String anchor;
+        private final int hash;
+
+        Key(final Class<?> type, final Class<? extends Annotation> scope, final Class<?> anchor) {
+            this.type = type.getName();
+            this.scope = scope == null ? null : scope.getName();
+            this.anchor = anchor == null ? null : anchor.getName();
+            this.hash = 31 * (31 * this.type.hashCode() + Objects.hashCode(this.scope))
+                    + Objects.hashCode(this.anchor);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return type.equals(key.type)
+                    && Objects.equals(scope, key.scope)
+                    && Objects.equals(anchor, key.anchor);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
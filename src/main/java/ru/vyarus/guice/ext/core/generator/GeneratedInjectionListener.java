@@ -0,0 +1,40 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.inject.spi.InjectionListener;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Base class for injection listeners, generated by {@link InjectionListenerGenerator}. Must be public because
+ * generated classes are defined in bean packages.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public abstract class GeneratedInjectionListener implements InjectionListener<Object> {
+
+    /**
+     * Step values: assigned field values and delegate listeners (by step index).
+     */
+    protected final Object[] values;
+    private final String[] errors;
+
+    protected GeneratedInjectionListener(final Object[] values, final String[] errors) {
+        this.values = values;
+        this.errors = errors;
+    }
+
+    /**
+     * Called from generated code on direct method call error. Error is wrapped the same way as with reflective
+     * call.
+     *
+     * @param step     step index
+     * @param instance bean instance
+     * @param error    method error
+     * @return exception to throw
+     */
+    protected RuntimeException fail(final int step, final Object instance, final Throwable error) {
+        return new IllegalStateException(errors[step] + instance.getClass().getSimpleName(),
+                new InvocationTargetException(error));
+    }
+}
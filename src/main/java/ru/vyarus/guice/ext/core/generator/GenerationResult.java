@@ -0,0 +1,66 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Batch classes generation result (see {@link DynamicClassGenerator#generateAll(java.util.Collection, Class, Class)}).
+ * Contains generated classes and generation errors for each failed type. Failure of one type does not affect
+ * other types generation.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class GenerationResult {
+
+    private final Map<Class<?>, Class<?>> generated;
+    private final Map<Class<?>, RuntimeException> errors;
+
+    GenerationResult(final Map<Class<?>, Class<?>> generated, final Map<Class<?>, RuntimeException> errors) {
+        this.generated = Collections.unmodifiableMap(generated);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * @return successfully generated classes (original type - generated class), in original types order
+     */
+    public Map<Class<?>, Class<?>> getGenerated() {
+        return generated;
+    }
+
+    /**
+     * @return generation errors (original type - error)
+     */
+    public Map<Class<?>, RuntimeException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return true if at least one type generation failed
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Shortcut for module bindings: {@code bind(MyType.class).to(result.get(MyType.class))}.
+     *
+     * @param type original type
+     * @param <T>  type
+     * @return generated class
+     * @throws RuntimeException         generation error if type generation failed
+     * @throws IllegalArgumentException if type was not generated
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Class<T> get(final Class<T> type) {
+        final RuntimeException error = errors.get(type);
+        if (error != null) {
+            throw error;
+        }
+        final Class<?> res = generated.get(type);
+        if (res == null) {
+            throw new IllegalArgumentException("Type was not generated in batch: " + type.getName());
+        }
+        return (Class<T>) res;
+    }
+}
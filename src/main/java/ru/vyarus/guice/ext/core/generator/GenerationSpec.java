@@ -0,0 +1,176 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.ImplementedBy;
+import com.google.inject.Inject;
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.Annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generated class specification for {@link ClassGenerationEngine}. Contains everything engine must write into
+ * generated class: all validations are performed on specification creation, so engines only have to write
+ * class bytecode.
+ * <p>
+ * Generated class must:
+ * <ul>
+ * <li>be public, extend abstract type (or implement interface)</li>
+ * <li>contain all annotations from {@link #getAnnotations()} (with all values) and marker annotation
+ * {@link #getScope()} (if not null)</li>
+ * <li>if {@link #getConstructor()} is not null, declare constructor with the same parameters (plus anchor,
+ * if not null, as last parameter), exceptions, annotations, parameter annotations and generics signature,
+ * calling super constructor with original parameters</li>
+ * <li>if there is no constructor, but anchor is not null, declare constructor with single anchor parameter,
+ * annotated with guice {@link Inject} and calling default super constructor</li>
+ * <li>otherwise, declare the same constructors as all non private super class constructors (public default
+ * constructor for interface), calling super constructor</li>
+ * <li>for each method in {@link #getDispatchedMethods()} declare private static final {@link MethodHandler} field
+ * (named {@link DirectDispatch#FIELD_PREFIX} + method index), initialized in static initializer from
+ * {@link DirectDispatch#handlers(Class, int)} result, and implement method with handler call</li>
+ * </ul>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class GenerationSpec {
+
+    private final Class<?> type;
+    private final String className;
+    private final Constructor<?> constructor;
+    private final Class<?> anchor;
+    private final List<Annotation> annotations;
+    private final Class<? extends Annotation> scope;
+    private final List<Method> dispatchedMethods;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private GenerationSpec(final Class<?> type, final String className, final Constructor<?> constructor,
+                           final Class<?> anchor, final List<Annotation> annotations,
+                           final Class<? extends Annotation> scope, final List<Method> dispatchedMethods) {
+        this.type = type;
+        this.className = className;
+        this.constructor = constructor;
+        this.anchor = anchor;
+        this.annotations = annotations;
+        this.scope = scope;
+        this.dispatchedMethods = dispatchedMethods;
+    }
+
+    /**
+     * @return interface or abstract class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return generated class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return abstract class injection constructor to copy or null (no injection constructor or interface)
+     */
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * @return anchor type to add as last constructor parameter or null
+     */
+    public Class<?> getAnchor() {
+        return anchor;
+    }
+
+    /**
+     * @return type annotations to copy into generated class
+     */
+    public List<Annotation> getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * @return scope annotation to apply on generated class or null
+     */
+    public Class<? extends Annotation> getScope() {
+        return scope;
+    }
+
+    /**
+     * @return abstract methods to implement with direct handler call (empty when direct dispatch is disabled)
+     * @see DynamicClassGenerator#setDirectDispatch(boolean)
+     */
+    public List<Method> getDispatchedMethods() {
+        return dispatchedMethods;
+    }
+
+    /**
+     * Validates abstract type declaration and creates specification.
+     *
+     * @param type      interface or abstract class
+     * @param className generated class name
+     * @param scope     scope annotation to apply (may be null)
+     * @param anchor    anchor type (may be null)
+     * @return generated class specification
+     * @throws IllegalStateException    if scope annotation is declared directly on abstract type or provided
+     *                                  annotation is not scope annotation
+     * @throws IllegalArgumentException on duplicate scope definition
+     */
+    static GenerationSpec create(final Class<?> type, final String className,
+                                 final Class<? extends Annotation> scope, final Class<?> anchor) {
+        final List<Annotation> annotations = new ArrayList<>();
+        Class<? extends Annotation> targetScope = null;
+        for (Annotation ann : type.getAnnotations()) {
+            // if we copy these annotation guice will go to infinite loop
+            if (ann instanceof ProvidedBy || ann instanceof ImplementedBy) {
+                continue;
+            }
+            Preconditions.checkState(!Annotations.isScopeAnnotation(ann.annotationType()),
+                    "Don't use scope annotations directly - use @ScopeAnnotation(TargetScope) wrapper, "
+                            + "because guice doesn't allow scope annotations on abstract types");
+            if (ann instanceof ScopeAnnotation) {
+                targetScope = ((ScopeAnnotation) ann).value();
+            } else {
+                annotations.add(ann);
+            }
+        }
+        if (scope != null) {
+            Preconditions.checkState(Annotations.isScopeAnnotation(scope),
+                    "Provided annotation %s is not scope annotation", scope.getSimpleName());
+            Preconditions.checkArgument(targetScope == null,
+                    "Duplicate scope definition: scope is specified as %s and also defined "
+                            + "in @ScopeAnnotation.", scope.getSimpleName());
+            targetScope = scope;
+        }
+        return new GenerationSpec(type, className, type.isInterface() ? null : findDIConstructor(type),
+                anchor, Collections.unmodifiableList(annotations), targetScope,
+                Collections.unmodifiableList(DirectDispatch.dispatchedMethods(type)));
+    }
+
+    private static Constructor<?> findDIConstructor(final Class<?> type) {
+        Constructor<?> target = null;
+        for (Constructor<?> ctor : type.getConstructors()) {
+            if (ctor.isAnnotationPresent(Inject.class)) {
+                target = ctor;
+                break;
+            }
+            // manual search to avoid direct dependency on javax and jakarta namespace
+            for (Annotation ann : ctor.getAnnotations()) {
+                final String name = ann.annotationType().getName();
+                if (DynamicClassGenerator.JAVAX_INJECT.equals(name)
+                        || DynamicClassGenerator.JAKARTA_INJECT.equals(name)) {
+                    target = ctor;
+                    break;
+                }
+            }
+        }
+        return target;
+    }
+}
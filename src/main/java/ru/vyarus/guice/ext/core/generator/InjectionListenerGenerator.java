@@ -0,0 +1,261 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.spi.InjectionListener;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generates injection listener class for exact bean type, performing all post processing steps with direct
+ * bytecode calls: annotated methods are called and field values are assigned directly (instead of reflective
+ * loop over separate listeners). Steps, which could not be performed directly (e.g. private members or custom
+ * processors), are delegated to provided listeners (from the same generated method, preserving steps order).
+ * <p>
+ * Generated class is defined in bean package (and class loader) in order to access package-private members.
+ * Generated classes are cached per bean type (and steps), so injectors for the same types re-use the same class
+ * (only new listener instance is created with injector-specific values). Generation failures are also cached:
+ * repeated generation for the same bean type (and steps) fails immediately with the same cause. Requires javassist.
+ * <p>
+ * Example:
+ * <pre><code>
+ *     InjectionListenerGenerator.Plan plan = InjectionListenerGenerator.plan(type);
+ *     if (plan.canCall(method)) {
+ *         plan.call(method, "Failed to call init method of class ");
+ *     }
+ *     plan.delegate(listener);
+ *     encounter.register(plan.generate());
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class InjectionListenerGenerator {
+
+    /**
+     * Generated class name postfix (followed with class index for the same bean type).
+     */
+    public static final String LISTENER_CLASS_POSTFIX = "$GuiceListener";
+
+    // generated class or generation failure (DynamicClassException)
+    private static final ClassValue<Map<String, Object>> CLASSES = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private InjectionListenerGenerator() {
+    }
+
+    /**
+     * @param type bean type
+     * @return listener plan for bean type
+     */
+    public static Plan plan(final Class<?> type) {
+        return new Plan(Preconditions.checkNotNull(type, "Bean type required"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InjectionListener<Object> generate(final Plan plan) {
+        final Map<String, Object> classes = CLASSES.get(plan.type);
+        final String signature = plan.signature();
+        Object res = classes.get(signature);
+        if (res == null) {
+            synchronized (classes) {
+                res = classes.get(signature);
+                if (res == null) {
+                    try {
+                        res = generateClass(plan, plan.type.getName() + LISTENER_CLASS_POSTFIX + classes.size());
+                    } catch (DynamicClassException ex) {
+                        res = ex;
+                    }
+                    classes.put(signature, res);
+                }
+            }
+        }
+        if (res instanceof DynamicClassException) {
+            final DynamicClassException failure = (DynamicClassException) res;
+            // new exception for correct stack trace
+            throw new DynamicClassException(failure.getMessage(), failure.getCause());
+        }
+        final Class<?> listenerClass = (Class<?>) res;
+        try {
+            final Constructor<?> ctor = listenerClass.getConstructor(Object[].class, String[].class);
+            return (InjectionListener<Object>) ctor.newInstance(plan.values.toArray(), plan.errors.toArray(
+                    new String[0]));
+        } catch (Exception ex) {
+            throw new DynamicClassException("Failed to create generated listener " + listenerClass.getName(), ex);
+        }
+    }
+
+    private static Class<?> generateClass(final Plan plan, final String name) {
+        try {
+            final ClassPool classPool = new ClassPool(JavassistEngine.getPool(plan.type.getClassLoader()));
+            final CtClass impl = classPool.makeClass(name,
+                    classPool.get(GeneratedInjectionListener.class.getName()));
+            impl.setModifiers(javassist.Modifier.PUBLIC | javassist.Modifier.FINAL);
+            impl.addConstructor(CtNewConstructor.make(
+                    new CtClass[]{classPool.get(Object[].class.getName()), classPool.get(String[].class.getName())},
+                    new CtClass[0], "{ super($1, $2); }", impl));
+            impl.addMethod(CtNewMethod.make("public void afterInjection(Object instance) {"
+                    + plan.body() + "}", impl));
+            final byte[] bytecode = impl.toBytecode();
+            impl.detach();
+            return ClassDefiner.define(ClassDefinitionMode.LOOKUP, plan.type, name, bytecode);
+        } catch (Exception ex) {
+            throw new DynamicClassException("Failed to generate injection listener for " + plan.type.getName(), ex);
+        }
+    }
+
+    private static boolean isAccessible(final Class<?> type, final Member member) {
+        final int modifiers = member.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers)) {
+            return false;
+        }
+        final Class<?> declaring = member.getDeclaringClass();
+        final boolean samePackage = declaring.getClassLoader() == type.getClassLoader()
+                && packageName(declaring).equals(packageName(type));
+        // protected members of other packages are accessible only for subclasses
+        return samePackage || Modifier.isPublic(modifiers) && isPublic(declaring);
+    }
+
+    private static boolean isPublic(final Class<?> type) {
+        Class<?> current = type;
+        boolean res = true;
+        while (res && current != null) {
+            res = Modifier.isPublic(current.getModifiers());
+            current = current.getDeclaringClass();
+        }
+        return res;
+    }
+
+    private static String packageName(final Class<?> type) {
+        final String name = type.getName();
+        final int idx = name.lastIndexOf('.');
+        return idx < 0 ? "" : name.substring(0, idx);
+    }
+
+    private static String sourceName(final Class<?> type) {
+        return type.isArray() ? sourceName(type.getComponentType()) + "[]" : type.getName();
+    }
+
+    /**
+     * Post processing steps for bean type. Steps are performed in registration order.
+     */
+    public static final class Plan {
+        private final Class<?> type;
+        private final StringBuilder body = new StringBuilder();
+        private final StringBuilder signature = new StringBuilder();
+        private final List<Object> values = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        private Plan(final Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * @param method method to call
+         * @return true if method could be called directly from generated listener
+         */
+        public boolean canCall(final Method method) {
+            return method.getParameterTypes().length == 0 && isAccessible(type, method);
+        }
+
+        /**
+         * @param field field to assign
+         * @param value value to assign
+         * @return true if field could be assigned directly from generated listener
+         */
+        public boolean canSet(final Field field, final Object value) {
+            return !field.getType().isPrimitive() && !Modifier.isFinal(field.getModifiers())
+                    && (value == null || field.getType().isInstance(value)) && isAccessible(type, field);
+        }
+
+        /**
+         * Register direct method call. Method errors are wrapped with {@link IllegalStateException} with
+         * provided message, followed by bean class name (cause is
+         * {@link java.lang.reflect.InvocationTargetException}, the same as for reflective calls).
+         *
+         * @param method       method without parameters (see {@link #canCall(Method)})
+         * @param errorMessage error message prefix
+         * @return plan instance for chained calls
+         */
+        public Plan call(final Method method, final String errorMessage) {
+            Preconditions.checkArgument(canCall(method), "Method %s can't be called directly", method);
+            final int step = step("c:" + method);
+            errors.add(errorMessage);
+            values.add(null);
+            body.append(String.format("try { ((%s) $1).%s(); } catch (Throwable ex) { throw fail(%s, $1, ex); }",
+                    sourceName(method.getDeclaringClass()), method.getName(), step));
+            return this;
+        }
+
+        /**
+         * Register direct field assignment.
+         *
+         * @param field field (see {@link #canSet(Field, Object)})
+         * @param value value to assign (the same for all instances)
+         * @return plan instance for chained calls
+         */
+        public Plan set(final Field field, final Object value) {
+            Preconditions.checkArgument(canSet(field, value), "Field %s can't be assigned directly", field);
+            final int step = step("s:" + field);
+            errors.add(null);
+            values.add(value);
+            body.append(String.format("((%s) $1).%s = (%s) values[%s];",
+                    sourceName(field.getDeclaringClass()), field.getName(), sourceName(field.getType()), step));
+            return this;
+        }
+
+        /**
+         * Register delegate listener call (for steps which could not be performed directly).
+         *
+         * @param listener listener to call
+         * @return plan instance for chained calls
+         */
+        public Plan delegate(final InjectionListener<Object> listener) {
+            final int step = step("d");
+            errors.add(null);
+            values.add(Preconditions.checkNotNull(listener, "Listener required"));
+            body.append(String.format("((%s) values[%s]).afterInjection($1);",
+                    InjectionListener.class.getName(), step));
+            return this;
+        }
+
+        /**
+         * Generates listener class (or use already generated class for the same bean type and steps)
+         * and creates listener instance.
+         *
+         * @return listener instance
+         * @throws DynamicClassException on generation error
+         */
+        public InjectionListener<Object> generate() {
+            return InjectionListenerGenerator.generate(this);
+        }
+
+        private int step(final String description) {
+            signature.append(description).append(';');
+            return values.size();
+        }
+
+        private String signature() {
+            return signature.toString();
+        }
+
+        private String body() {
+            return body.toString();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.common.collect.MapMaker;
+import com.google.inject.Inject;
+import javassist.*;
+import javassist.bytecode.*;
+import javassist.bytecode.annotation.Annotation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Javassist bytecode engine (default).
+ * <p>
+ * Class pool is shared for all generations within the same class loader (so common types like annotations and
+ * super types are parsed just once). Pool is weakly bound to class loader and so released together with it
+ * (pool itself holds class loader with weak reference). Each generation use its own child pool, so generated
+ * classes never stay in shared pool and concurrent generations don't modify shared state.
+ * <p>
+ * Javassist classes are loaded only when generation is performed: when generated class is already available
+ * (e.g. generated at build time) javassist could be absent in classpath.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicClassGenerator
+ * @since 18.10.2026
+ */
+@SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
+public final class JavassistEngine implements ClassGenerationEngine {
+
+    private static final ConcurrentMap<ClassLoader, ClassPool> POOLS = new MapMaker().weakKeys().makeMap();
+
+    private static volatile boolean sharedPool = true;
+
+    /**
+     * Shared class pool is enabled by default. Option exists mostly for comparison (tests).
+     *
+     * @param shared true to share class pool between generations in the same class loader, false to create new
+     *               pool for each generation
+     */
+    static void setSharedPool(final boolean shared) {
+        sharedPool = shared;
+        if (!shared) {
+            POOLS.clear();
+        }
+    }
+
+    @Override
+    public byte[] generate(final GenerationSpec spec) throws Exception {
+        // child pool used for generated class only: all other classes are resolved from parent (shared) pool
+        final ClassPool classPool = new ClassPool(getPool(spec.getType().getClassLoader()));
+        final CtClass impl = generateCtClass(classPool, spec);
+        final byte[] res = impl.toBytecode();
+        impl.detach();
+        return res;
+    }
+
+    /**
+     * @param loader class loader
+     * @return class pool for class loader (shared, if sharing is not disabled)
+     */
+    static ClassPool getPool(final ClassLoader loader) {
+        ClassPool pool = sharedPool ? POOLS.get(loader) : null;
+        if (pool == null) {
+            // have to use custom pool (instead of default) because original type classloader could be
+            // thrown away and all cached CtClass objects would be stale
+            pool = new ClassPool();
+            pool.appendClassPath(new LoaderClassPath(loader));
+            if (sharedPool) {
+                final ClassPool existing = POOLS.putIfAbsent(loader, pool);
+                if (existing != null) {
+                    pool = existing;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private static CtClass generateCtClass(final ClassPool classPool, final GenerationSpec spec) throws Exception {
+        final Class<?> type = spec.getType();
+        final CtClass ctType = classPool.get(type.getName());
+        final CtClass ctAnchor = spec.getAnchor() == null ? null : classPool.getCtClass(spec.getAnchor().getName());
+        final CtClass impl;
+        if (type.isInterface()) {
+            impl = classPool.makeClass(spec.getClassName());
+            impl.addInterface(ctType);
+        } else {
+            impl = classPool.makeClass(spec.getClassName(), ctType);
+            if (spec.getConstructor() != null) {
+                copyConstructor(impl, ctType, spec.getConstructor(), ctAnchor);
+            }
+        }
+        if (ctAnchor != null && impl.getConstructors().length == 0) {
+            // create new constructor with anchor dependency
+            createAnchorConstructor(impl, ctAnchor);
+        }
+        if (!spec.getDispatchedMethods().isEmpty()) {
+            addDirectDispatch(impl, spec.getDispatchedMethods());
+        }
+        final ConstPool constPool = impl.getClassFile().getConstPool();
+        final AnnotationsAttribute annotations = copyAnnotations(constPool,
+                spec.getAnnotations().toArray(new java.lang.annotation.Annotation[0]));
+        if (spec.getScope() != null) {
+            annotations.addAnnotation(new Annotation(constPool, classPool.get(spec.getScope().getName())));
+        }
+        impl.getClassFile().addAttribute(annotations);
+        return impl;
+    }
+
+    private static void copyConstructor(final CtClass impl, final CtClass ctType, final Constructor ctor,
+                                        final CtClass anchor) throws Exception {
+        final ClassPool classPool = impl.getClassPool();
+        final CtClass[] parameters = JavassistUtils.convertTypes(classPool, ctor.getParameterTypes());
+        final CtConstructor ctConstructor = CtNewConstructor.make(
+                parameters,
+                JavassistUtils.convertTypes(classPool, ctor.getExceptionTypes()),
+                CtNewConstructor.PASS_PARAMS, null, null, impl);
+        if (anchor != null) {
+            ctConstructor.addParameter(anchor);
+        }
+        final ConstPool constPool = impl.getClassFile().getConstPool();
+        final MethodInfo methodInfo = ctConstructor.getMethodInfo();
+        methodInfo.addAttribute(copyAnnotations(constPool, ctor.getAnnotations()));
+        methodInfo.addAttribute(copyConstructorParametersAnnotations(constPool, ctor, anchor != null));
+        final SignatureAttribute info = copyConstructorGenericsSignature(constPool, parameters, ctType, anchor);
+        if (info != null) {
+            methodInfo.addAttribute(info);
+        }
+        impl.addConstructor(ctConstructor);
+    }
+
+    private static void createAnchorConstructor(final CtClass impl, final CtClass anchor)
+            throws Exception {
+        final ClassPool classPool = impl.getClassPool();
+        final CtConstructor ctConstructor = CtNewConstructor.make(
+                new CtClass[]{anchor},
+                null,
+                CtNewConstructor.PASS_NONE, null, null, impl);
+        final ConstPool constPool = impl.getClassFile().getConstPool();
+        final MethodInfo methodInfo = ctConstructor.getMethodInfo();
+        // add injection annotation
+        final AnnotationsAttribute attr = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        final Annotation annotation = new Annotation(constPool, classPool.get(Inject.class.getName()));
+        attr.addAnnotation(annotation);
+        methodInfo.addAttribute(attr);
+        impl.addConstructor(ctConstructor);
+    }
+
+    private static void addDirectDispatch(final CtClass impl, final List<Method> methods) throws Exception {
+        final ClassPool classPool = impl.getClassPool();
+        final ConstPool constPool = impl.getClassFile().getConstPool();
+        final String handler = MethodHandler.class.getName();
+        final StringBuilder init = new StringBuilder("{ ").append(handler).append("[] handlers = ")
+                .append(DirectDispatch.class.getName()).append(".handlers(").append(impl.getName())
+                .append(".class, ").append(methods.size()).append(");");
+        for (int i = 0; i < methods.size(); i++) {
+            final Method method = methods.get(i);
+            final String field = DirectDispatch.FIELD_PREFIX + i;
+            impl.addField(CtField.make("private static final " + handler + " " + field + ";", impl));
+            init.append(field).append(" = handlers[").append(i).append("];");
+            final CtMethod ctMethod = CtNewMethod.make(javassist.Modifier.PUBLIC,
+                    classPool.get(method.getReturnType().getName()), method.getName(),
+                    JavassistUtils.convertTypes(classPool, method.getParameterTypes()),
+                    JavassistUtils.convertTypes(classPool, method.getExceptionTypes()),
+                    "{ return ($r) " + field + ".handle(this, $args); }", impl);
+            ctMethod.getMethodInfo().addAttribute(copyAnnotations(constPool, method.getAnnotations()));
+            impl.addMethod(ctMethod);
+        }
+        impl.makeClassInitializer().setBody(init.append('}').toString());
+    }
+
+    private static ParameterAnnotationsAttribute copyConstructorParametersAnnotations(
+            final ConstPool constPool, final Constructor ctor, final boolean anchorAdded) throws Exception {
+        // parameter annotations array is cloned on each call
+        final java.lang.annotation.Annotation[][] source = ctor.getParameterAnnotations();
+        final int count = source.length;
+        final Annotation[][] paramAnnotations = new Annotation[count + (anchorAdded ? 1 : 0)][];
+        for (int i = 0; i < count; i++) {
+            final java.lang.annotation.Annotation[] anns = source[i];
+            paramAnnotations[i] = new Annotation[anns.length];
+            for (int j = 0; j < anns.length; j++) {
+                paramAnnotations[i][j] = JavassistUtils.copyAnnotation(constPool, anns[j]);
+            }
+        }
+        if (anchorAdded) {
+            paramAnnotations[count] = new Annotation[0];
+        }
+        final ParameterAnnotationsAttribute paramAnns = new ParameterAnnotationsAttribute(
+                constPool, ParameterAnnotationsAttribute.visibleTag);
+        paramAnns.setAnnotations(paramAnnotations);
+        return paramAnns;
+    }
+
+    private static AnnotationsAttribute copyAnnotations(final ConstPool constPool,
+                                                        final java.lang.annotation.Annotation... source)
+            throws Exception {
+        final AnnotationsAttribute attr = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        for (java.lang.annotation.Annotation ann : source) {
+            attr.addAnnotation(JavassistUtils.copyAnnotation(constPool, ann));
+        }
+        return attr;
+    }
+
+    private static SignatureAttribute copyConstructorGenericsSignature(
+            final ConstPool constPool, final CtClass[] params, final CtClass source, final CtClass anchor)
+            throws Exception {
+        final CtConstructor ctConstructor = source.getConstructor(Descriptor.ofConstructor(params));
+        String signature = null;
+        for (Object attr : ctConstructor.getMethodInfo().getAttributes()) {
+            if (attr instanceof SignatureAttribute) {
+                signature = ((SignatureAttribute) attr).getSignature();
+                break;
+            }
+        }
+        if (signature != null && anchor != null) {
+            // add anchor to generics signature
+            final String type = "L" + (anchor.getName().replaceAll("\\.", "/")) + ";";
+            final int idx = signature.lastIndexOf(')');
+            signature = signature.substring(0, idx) + type + signature.substring(idx);
+        }
+        return signature == null ? null : new SignatureAttribute(constPool, signature);
+    }
+}
@@ -3,10 +3,9 @@ package ru.vyarus.guice.ext.core.generator;
 import javassist.ClassPool;
 import javassist.CtClass;
 import javassist.bytecode.ConstPool;
-import javassist.bytecode.annotation.Annotation;
-import javassist.bytecode.annotation.MemberValue;
+import javassist.bytecode.annotation.*;
 
-import java.lang.reflect.Method;
+import java.lang.reflect.Array;
 
 /**
  * Helper javassist methods.
@@ -16,29 +15,53 @@ import java.lang.reflect.Method;
  */
 public final class JavassistUtils {
 
+    /**
+     * Annotation copy plans: member value factories, resolved once per annotation type.
+     */
+    private static final ClassValue<ValueFactory[]> PLANS = new ClassValue<ValueFactory[]>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ValueFactory[] computeValue(final Class<?> type) {
+            final AnnotationMembers members = AnnotationMembers.of(
+                    (Class<? extends java.lang.annotation.Annotation>) type);
+            final ValueFactory[] res = new ValueFactory[members.size()];
+            for (int i = 0; i < res.length; i++) {
+                res[i] = factory(members.type(i));
+            }
+            return res;
+        }
+    };
+
     private JavassistUtils() {
     }
 
     /**
-     * @param classPool class pool to use
+     * Annotation members and value types are resolved once per annotation type, so copying of the same
+     * annotation type is cheap.
+     *
      * @param constPool constants pool
      * @param ann       annotation to copy
      * @return javassist annotation object (copy of original annotation)
      * @throws Exception on errors
      */
+    public static Annotation copyAnnotation(final ConstPool constPool,
+                                            final java.lang.annotation.Annotation ann) throws Exception {
+        return copy(constPool, ann);
+    }
+
+    /**
+     * @param classPool class pool (not used)
+     * @param constPool constants pool
+     * @param ann       annotation to copy
+     * @return javassist annotation object (copy of original annotation)
+     * @throws Exception on errors
+     * @deprecated class pool is not required anymore, use {@link #copyAnnotation(ConstPool,
+     * java.lang.annotation.Annotation)} instead
+     */
+    @Deprecated
     public static Annotation copyAnnotation(final ClassPool classPool, final ConstPool constPool,
                                             final java.lang.annotation.Annotation ann) throws Exception {
-        final Class<? extends java.lang.annotation.Annotation> annotationType = ann.annotationType();
-        final Annotation copy = new Annotation(annotationType.getName(), constPool);
-        final Method[] methods = annotationType.getDeclaredMethods();
-        for (final Method method : methods) {
-            final CtClass ctType = classPool.get(method.getReturnType().getName());
-            final MemberValue memberValue = Annotation.createMemberValue(constPool, ctType);
-            final Object value = method.invoke(ann);
-            memberValue.accept(new AnnotationMemberValueVisitor(classPool, constPool, value));
-            copy.addMemberValue(method.getName(), memberValue);
-        }
-        return copy;
+        return copyAnnotation(constPool, ann);
     }
 
     /**
@@ -55,4 +78,138 @@ public final class JavassistUtils {
         }
         return resTypes;
     }
+
+    private static Annotation copy(final ConstPool constPool, final java.lang.annotation.Annotation ann)
+            throws Exception {
+        final Class<? extends java.lang.annotation.Annotation> annotationType = ann.annotationType();
+        final AnnotationMembers members = AnnotationMembers.of(annotationType);
+        final ValueFactory[] factories = PLANS.get(annotationType);
+        final Annotation copy = new Annotation(annotationType.getName(), constPool);
+        for (int i = 0; i < factories.length; i++) {
+            copy.addMemberValue(members.name(i), factories[i].create(constPool, members.value(i, ann)));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CyclomaticComplexity"})
+    private static ValueFactory factory(final Class<?> type) {
+        final ValueFactory res;
+        if (type == boolean.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new BooleanMemberValue((Boolean) value, cp);
+                }
+            };
+        } else if (type == byte.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new ByteMemberValue((Byte) value, cp);
+                }
+            };
+        } else if (type == char.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new CharMemberValue((Character) value, cp);
+                }
+            };
+        } else if (type == short.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new ShortMemberValue((Short) value, cp);
+                }
+            };
+        } else if (type == int.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new IntegerMemberValue(cp, (Integer) value);
+                }
+            };
+        } else if (type == long.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new LongMemberValue((Long) value, cp);
+                }
+            };
+        } else if (type == float.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new FloatMemberValue((Float) value, cp);
+                }
+            };
+        } else if (type == double.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new DoubleMemberValue((Double) value, cp);
+                }
+            };
+        } else if (type == String.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new StringMemberValue((String) value, cp);
+                }
+            };
+        } else if (type == Class.class) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    return new ClassMemberValue(((Class<?>) value).getName(), cp);
+                }
+            };
+        } else if (type.isEnum()) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) {
+                    final EnumMemberValue member = new EnumMemberValue(cp);
+                    member.setType(((Enum<?>) value).getDeclaringClass().getName());
+                    member.setValue(((Enum<?>) value).name());
+                    return member;
+                }
+            };
+        } else if (type.isAnnotation()) {
+            res = new ValueFactory() {
+                @Override
+                public MemberValue create(final ConstPool cp, final Object value) throws Exception {
+                    return new AnnotationMemberValue(copy(cp, (java.lang.annotation.Annotation) value), cp);
+                }
+            };
+        } else if (type.isArray()) {
+            res = arrayFactory(type);
+        } else {
+            throw new IllegalStateException("Unsupported annotation member type: " + type.getName());
+        }
+        return res;
+    }
+
+    private static ValueFactory arrayFactory(final Class<?> type) {
+        final ValueFactory component = factory(type.getComponentType());
+        return new ValueFactory() {
+            @Override
+            public MemberValue create(final ConstPool cp, final Object value) throws Exception {
+                final int length = Array.getLength(value);
+                final MemberValue[] members = new MemberValue[length];
+                for (int i = 0; i < length; i++) {
+                    members[i] = component.create(cp, Array.get(value, i));
+                }
+                final ArrayMemberValue res = new ArrayMemberValue(cp);
+                res.setValue(members);
+                return res;
+            }
+        };
+    }
+
+    /**
+     * Creates javassist annotation member value from java value.
+     */
+    private interface ValueFactory {
+        MemberValue create(ConstPool cp, Object value) throws Exception;
+    }
 }
@@ -0,0 +1,25 @@
+package ru.vyarus.guice.ext.core.generator;
+
+/**
+ * Abstract method implementation for direct dispatch mode (see
+ * {@link DynamicClassGenerator#setDirectDispatch(boolean)}). Generated method body calls handler directly
+ * (without guice aop) with method arguments.
+ * <p>
+ * Handler is created once per method (with {@link MethodHandlerFactory}), so all method-specific preparations
+ * must be done on handler creation.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface MethodHandler {
+
+    /**
+     * Primitive results are unboxed (so null result for primitive return type would lead to exception).
+     *
+     * @param instance generated class instance
+     * @param args     method arguments (primitives are boxed)
+     * @return method result (ignored for void methods)
+     * @throws Throwable any exception thrown from method
+     */
+    Object handle(Object instance, Object[] args) throws Throwable;
+}
@@ -0,0 +1,21 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates {@link MethodHandler} for abstract method, annotated with registered annotation
+ * (see {@link DynamicClassGenerator#registerMethodHandler(Class, MethodHandlerFactory)}).
+ * Called once per method, when generated class is initialized.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface MethodHandlerFactory {
+
+    /**
+     * @param type   abstract type (interface or abstract class)
+     * @param method abstract method
+     * @return method handler
+     */
+    MethodHandler create(Class<?> type, Method method);
+}
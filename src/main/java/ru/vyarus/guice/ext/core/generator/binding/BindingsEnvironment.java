@@ -0,0 +1,345 @@
+package ru.vyarus.guice.ext.core.generator.binding;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Key;
+import com.google.inject.PrivateBinder;
+import com.google.inject.ProvidedBy;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.binder.ScopedBindingBuilder;
+import com.google.inject.internal.DynamicClassProvider;
+import com.google.inject.internal.DynamicSingletonProvider;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.DefaultElementVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
+import com.google.inject.spi.UntargettedBinding;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.anchor.AnchorBean;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bindings environment: top level module elements or private module elements (private modules form a tree).
+ * Searches dependencies on dynamically provided types and re-applies elements with linked bindings for them.
+ * <p>
+ * Dynamic type binding is registered in the same environment where guice would create JIT binding: in the
+ * closest environment with {@link AnchorBean} binding (anchor module) or at the top level.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DynamicBindingsModule
+ * @since 18.10.2026
+ */
+final class BindingsEnvironment {
+
+    private static final Key<AnchorBean> ANCHOR_KEY = Key.get(AnchorBean.class);
+    private static final Set<String> PROVIDERS = ImmutableSet.of(Provider.class.getName(),
+            "javax.inject.Provider", "jakarta.inject.Provider");
+
+    private final BindingsEnvironment parent;
+    private final List<Element> elements;
+    private final Map<PrivateElements, BindingsEnvironment> children = new IdentityHashMap<>();
+    private final Set<Key<?>> bound = new HashSet<>();
+    private final Set<Class<?>> inspected = new HashSet<>();
+    // abstract type - generated class scope
+    private final Map<Class<?>, Class<? extends Annotation>> dynamic = new LinkedHashMap<>();
+    private final Set<Element> rewrites = Sets.newIdentityHashSet();
+    private boolean anchored;
+
+    BindingsEnvironment(final BindingsEnvironment parent, final List<Element> elements) {
+        this.parent = parent;
+        this.elements = elements;
+        for (Element element : elements) {
+            if (element instanceof Binding) {
+                final Key<?> key = ((Binding<?>) element).getKey();
+                bound.add(key);
+                anchored |= ANCHOR_KEY.equals(key);
+            } else if (element instanceof PrivateElements) {
+                final PrivateElements privateElements = (PrivateElements) element;
+                children.put(privateElements, new BindingsEnvironment(this, privateElements.getElements()));
+                bound.addAll(privateElements.getExposedKeys());
+            }
+        }
+    }
+
+    /**
+     * Search dynamic types in all environments. Must be called before {@link #apply(Binder)}.
+     */
+    void resolve() {
+        collect();
+        prune();
+    }
+
+    /**
+     * Re-apply recorded elements with linked bindings for dynamic types.
+     *
+     * @param binder binder
+     */
+    void apply(final Binder binder) {
+        for (Element element : elements) {
+            if (element instanceof PrivateElements) {
+                final PrivateElements privateElements = (PrivateElements) element;
+                final PrivateBinder privateBinder = binder.withSource(element.getSource()).newPrivateBinder();
+                children.get(privateElements).apply(privateBinder);
+                for (Key<?> key : privateElements.getExposedKeys()) {
+                    privateBinder.withSource(privateElements.getExposedSource(key)).expose(key);
+                }
+            } else if (rewrites.contains(element)) {
+                rewrite((UntargettedBinding<?>) element, binder);
+            } else {
+                element.applyTo(binder);
+            }
+        }
+        for (Map.Entry<Class<?>, Class<? extends Annotation>> entry : dynamic.entrySet()) {
+            bindLinked(binder, Key.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    private void collect() {
+        final ElementsVisitor visitor = new ElementsVisitor();
+        for (Element element : elements) {
+            // private elements are processed separately
+            if (!(element instanceof PrivateElements)) {
+                element.acceptVisitor(visitor);
+            }
+        }
+        for (BindingsEnvironment child : children.values()) {
+            child.collect();
+        }
+    }
+
+    /**
+     * Avoid duplicate bindings: type, already bound in upper environment, is visible for private module, and type,
+     * explicitly bound in private module, can't be bound in upper environment (such types left for JIT).
+     */
+    private void prune() {
+        final Iterator<Class<?>> it = dynamic.keySet().iterator();
+        while (it.hasNext()) {
+            final Class<?> type = it.next();
+            if (parent != null && parent.isRegistered(type) || isBoundBelow(Key.get(type))) {
+                it.remove();
+            }
+        }
+        for (BindingsEnvironment child : children.values()) {
+            child.prune();
+        }
+    }
+
+    private void dependencies(final Collection<Dependency<?>> dependencies) {
+        for (Dependency<?> dependency : dependencies) {
+            dependency(dependency.getKey());
+        }
+    }
+
+    private void dependency(final Key<?> key) {
+        final Key<?> target = unwrapProvider(key);
+        if (target.getAnnotationType() != null || !(target.getTypeLiteral().getType() instanceof Class)
+                || isBound(target)) {
+            return;
+        }
+        final Class<?> type = target.getTypeLiteral().getRawType();
+        if (isDynamic(type)) {
+            final BindingsEnvironment env = target();
+            env.dynamic.put(type, getScope(type));
+            env.inspect(type);
+        } else {
+            inspect(type);
+        }
+    }
+
+    /**
+     * Search dependencies in type constructor and injectable fields and methods.
+     *
+     * @param type type to inspect
+     */
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private void inspect(final Class<?> type) {
+        // interfaces can't declare injection points
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")
+                || !inspected.add(type)) {
+            return;
+        }
+        final TypeLiteral<?> literal = TypeLiteral.get(type);
+        try {
+            dependencies(InjectionPoint.forConstructorOf(literal).getDependencies());
+        } catch (ConfigurationException ignore) {
+            // not injectable type: guice will report it if type is actually used
+        }
+        try {
+            for (InjectionPoint point : InjectionPoint.forInstanceMethodsAndFields(literal)) {
+                dependencies(point.getDependencies());
+            }
+        } catch (ConfigurationException ignore) {
+            // guice will report it
+        }
+    }
+
+    private void rewrite(final UntargettedBinding<?> binding, final Binder binder) {
+        final ScopedBindingBuilder builder = bindLinked(binder.withSource(binding.getSource()), binding.getKey(),
+                getScope(binding.getKey().getTypeLiteral().getRawType()));
+        binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<Void>() {
+            @Override
+            public Void visitEagerSingleton() {
+                builder.asEagerSingleton();
+                return null;
+            }
+
+            @Override
+            public Void visitScope(final Scope scope) {
+                builder.in(scope);
+                return null;
+            }
+
+            @Override
+            public Void visitScopeAnnotation(final Class<? extends Annotation> scopeAnnotation) {
+                builder.in(scopeAnnotation);
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ScopedBindingBuilder bindLinked(final Binder binder, final Key<?> key,
+                                            final Class<? extends Annotation> scope) {
+        final Class<?> generated = DynamicClassGenerator.generate(key.getTypeLiteral().getRawType(), scope,
+                isAnchored() ? AnchorBean.class : null);
+        return binder.bind((Key<Object>) key).to((Class<Object>) generated);
+    }
+
+    /**
+     * @return environment where guice would create JIT binding
+     */
+    private BindingsEnvironment target() {
+        return anchored || parent == null ? this : parent.target();
+    }
+
+    /**
+     * @return true if anchor bean is available in environment (dynamic provider would use anchor)
+     */
+    private boolean isAnchored() {
+        return anchored || parent != null && parent.isAnchored();
+    }
+
+    private boolean isBound(final Key<?> key) {
+        return bound.contains(key) || parent != null && parent.isBound(key);
+    }
+
+    private boolean isRegistered(final Class<?> type) {
+        return dynamic.containsKey(type) || parent != null && parent.isRegistered(type);
+    }
+
+    private boolean isBoundBelow(final Key<?> key) {
+        for (BindingsEnvironment child : children.values()) {
+            if (child.bound.contains(key) || child.isBoundBelow(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDynamic(final Class<?> type) {
+        final ProvidedBy providedBy = type.getAnnotation(ProvidedBy.class);
+        return providedBy != null && (DynamicClassProvider.class.equals(providedBy.value())
+                || DynamicSingletonProvider.class.equals(providedBy.value()));
+    }
+
+    private static Class<? extends Annotation> getScope(final Class<?> type) {
+        return DynamicSingletonProvider.class.equals(type.getAnnotation(ProvidedBy.class).value())
+                ? Singleton.class : null;
+    }
+
+    private static Key<?> unwrapProvider(final Key<?> key) {
+        final Type type = key.getTypeLiteral().getType();
+        return type instanceof ParameterizedType
+                && PROVIDERS.contains(key.getTypeLiteral().getRawType().getName())
+                ? key.ofType(((ParameterizedType) type).getActualTypeArguments()[0]) : key;
+    }
+
+    /**
+     * Searches dependencies in module elements.
+     */
+    private class ElementsVisitor extends DefaultElementVisitor<Void> {
+
+        @Override
+        public <T> Void visit(final Binding<T> binding) {
+            if (binding instanceof UntargettedBinding) {
+                final Class<?> type = binding.getKey().getTypeLiteral().getRawType();
+                if (binding.getKey().getAnnotationType() == null && isDynamic(type)) {
+                    rewrites.add(binding);
+                }
+                inspect(type);
+            } else if (binding instanceof LinkedKeyBinding) {
+                dependency(((LinkedKeyBinding<?>) binding).getLinkedKey());
+            } else if (binding instanceof ProviderKeyBinding) {
+                dependency(((ProviderKeyBinding<?>) binding).getProviderKey());
+            }
+            if (binding instanceof HasDependencies) {
+                dependencies(((HasDependencies) binding).getDependencies());
+            }
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(final ProviderLookup<T> lookup) {
+            dependency(lookup.getKey());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(final MembersInjectorLookup<T> lookup) {
+            inspect(lookup.getType().getRawType());
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.EmptyCatchBlock")
+        public Void visit(final InjectionRequest<?> request) {
+            try {
+                for (InjectionPoint point : request.getInjectionPoints()) {
+                    dependencies(point.getDependencies());
+                }
+            } catch (ConfigurationException ignore) {
+                // guice will report it
+            }
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.EmptyCatchBlock")
+        public Void visit(final StaticInjectionRequest request) {
+            try {
+                for (InjectionPoint point : request.getInjectionPoints()) {
+                    dependencies(point.getDependencies());
+                }
+            } catch (ConfigurationException ignore) {
+                // guice will report it
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.vyarus.guice.ext.core.generator.binding;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.spi.Elements;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuration-time replacement for {@code @ProvidedBy(DynamicClassProvider.class)} (and
+ * {@code @ProvidedBy(DynamicSingletonProvider.class)}) JIT bindings. Module records elements of wrapped modules
+ * (with guice SPI), searches dependencies (of bindings, provider methods, injection requests and injection points
+ * of bound types) on abstract types, annotated with dynamic providers, and registers direct linked bindings
+ * for them: {@code bind(type).to(generatedClass)}. As a result, runtime provisions use guice linked binding
+ * instead of dynamic provider indirection.
+ * <p>
+ * Generated classes are the same as providers would generate (with the same scope and anchor), so behaviour
+ * is not changed. Untargetted bindings of such types ({@code bind(MyAbstractBean.class)}) are also replaced with
+ * linked bindings (preserving binding scope).
+ * <p>
+ * {@link ru.vyarus.guice.ext.core.generator.anchor.GeneratorAnchorModule} semantics is preserved: if anchor
+ * module is installed (in wrapped modules) into private module, dependencies found inside this private module
+ * are bound in it (with anchor dependency in generated class). Otherwise, bindings are registered at the
+ * top level (where guice would create JIT binding). When wrapped modules are used for child injector, install
+ * anchor module into it (the same as required for JIT bindings).
+ * <p>
+ * Types, not reachable from module elements (e.g. only obtained directly from injector), would still be
+ * resolved with JIT bindings (through providers).
+ * <p>
+ * Example usage:
+ * <pre><code>
+ *     Injector injector = Guice.createInjector(new DynamicBindingsModule(new MyModule(), new MyAopModule()));
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class DynamicBindingsModule extends AbstractModule {
+
+    private final List<Module> modules;
+
+    /**
+     * @param modules modules to process
+     */
+    public DynamicBindingsModule(final Module... modules) {
+        Preconditions.checkArgument(modules.length > 0, "No modules provided");
+        this.modules = Arrays.asList(modules);
+    }
+
+    @Override
+    protected void configure() {
+        final BindingsEnvironment root = new BindingsEnvironment(null, Elements.getElements(currentStage(), modules));
+        root.resolve();
+        root.apply(binder());
+    }
+}
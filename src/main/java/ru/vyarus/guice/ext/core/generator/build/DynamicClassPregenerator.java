@@ -0,0 +1,172 @@
+package ru.vyarus.guice.ext.core.generator.build;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.Singleton;
+import com.google.inject.internal.DynamicClassProvider;
+import com.google.inject.internal.DynamicSingletonProvider;
+import ru.vyarus.guice.ext.core.generator.DynamicClassException;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.anchor.AnchorBean;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build-time generation of dynamic classes. Searches compiled classes annotated with
+ * {@code @ProvidedBy(DynamicClassProvider.class)} or {@code @ProvidedBy(DynamicSingletonProvider.class)} and
+ * writes generated implementations near them (so generated classes would be packaged into jar).
+ * <p>
+ * At runtime {@link DynamicClassGenerator} will find already existing class in class loader and will not
+ * generate it (javassist would not be used at all).
+ * <p>
+ * Intended to be used from build as main class (class directory must be in classpath together with all
+ * runtime dependencies and javassist):
+ * <pre><code>
+ *     configurations { dynamicClasses }
+ *     dependencies { dynamicClasses 'org.javassist:javassist:3.31.0-GA' }
+ *
+ *     tasks.register('pregenerateDynamicClasses', JavaExec) {
+ *         dependsOn classes
+ *         classpath = sourceSets.main.runtimeClasspath + configurations.dynamicClasses
+ *         mainClass = 'ru.vyarus.guice.ext.core.generator.build.DynamicClassPregenerator'
+ *         args sourceSets.main.java.destinationDirectory.get().asFile
+ *     }
+ *     jar.dependsOn pregenerateDynamicClasses
+ * </code></pre>
+ * Arguments: {@code <classes dir> [output dir] [--anchor]}. By default, classes are written into classes dir.
+ * Use {@code --anchor} when application use {@link ru.vyarus.guice.ext.core.generator.anchor.GeneratorAnchorModule}
+ * (generated class must be the same as provider would generate at runtime).
+ * <p>
+ * Note that custom {@link DynamicClassProvider} implementations are not supported (as their scope is unknown).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class DynamicClassPregenerator {
+
+    private static final String CLASS_EXT = ".class";
+    private static final String ANCHOR_ARG = "--anchor";
+
+    private DynamicClassPregenerator() {
+    }
+
+    /**
+     * Build entry point.
+     *
+     * @param args classes directory, optional output directory and optional {@code --anchor} flag
+     * @throws Exception on generation errors
+     */
+    public static void main(final String[] args) throws Exception {
+        final List<String> params = new ArrayList<>();
+        boolean anchor = false;
+        for (String arg : args) {
+            if (ANCHOR_ARG.equals(arg)) {
+                anchor = true;
+            } else {
+                params.add(arg);
+            }
+        }
+        if (params.isEmpty() || params.size() > 2) {
+            throw new IllegalArgumentException(
+                    "Usage: DynamicClassPregenerator <classes dir> [output dir] [" + ANCHOR_ARG + "]");
+        }
+        final Path classes = Paths.get(params.get(0));
+        final Path output = params.size() > 1 ? Paths.get(params.get(1)) : classes;
+        final List<String> generated = pregenerate(classes, output,
+                Thread.currentThread().getContextClassLoader(), anchor);
+        // CHECKSTYLE:OFF
+        System.out.println("Generated " + generated.size() + " dynamic classes");
+        // CHECKSTYLE:ON
+    }
+
+    /**
+     * Generates classes for all types annotated with dynamic providers, found in classes directory.
+     * Classes are loaded (without initialization) from provided class loader (so classes directory must be
+     * available in it).
+     *
+     * @param classes classes directory to search annotated types in
+     * @param output  output directory for generated classes
+     * @param loader  class loader to load found classes with
+     * @param anchor  true to generate classes with {@link AnchorBean} anchor
+     * @return generated class names
+     * @throws IOException on classes directory read or generated class write errors
+     */
+    public static List<String> pregenerate(final Path classes, final Path output,
+                                           final ClassLoader loader, final boolean anchor) throws IOException {
+        final List<String> res = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        for (String name : findClasses(classes)) {
+            final Class<?> type;
+            try {
+                type = Class.forName(name, false, loader);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                // not loadable class can't be used with guice anyway
+                continue;
+            }
+            final ProvidedBy providedBy = type.getAnnotation(ProvidedBy.class);
+            if (providedBy == null || !isDynamicProvider(providedBy.value())) {
+                continue;
+            }
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                errors.add(name + ": type must be interface or abstract class");
+                continue;
+            }
+            try {
+                final byte[] bytecode = DynamicClassGenerator.generateBytecode(type, getScope(providedBy.value()),
+                        anchor ? AnchorBean.class : null);
+                final String target = name + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX;
+                final Path file = output.resolve(target.replace('.', '/') + CLASS_EXT);
+                Files.createDirectories(file.getParent());
+                Files.write(file, bytecode);
+                res.add(target);
+            } catch (DynamicClassException ex) {
+                errors.add(name + ": " + ex.getCause().getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Failed to generate dynamic classes:\n\t"
+                    + String.join("\n\t", errors));
+        }
+        return res;
+    }
+
+    private static List<String> findClasses(final Path classes) throws IOException {
+        final List<String> res = new ArrayList<>();
+        Files.walkFileTree(classes, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                final String path = classes.relativize(file).toString();
+                if (path.endsWith(CLASS_EXT)) {
+                    final String name = path.substring(0, path.length() - CLASS_EXT.length())
+                            .replace('/', '.').replace('\\', '.');
+                    // ignore already generated classes (e.g. on second run)
+                    if (!name.endsWith(DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX)
+                            && !name.endsWith("package-info") && !name.endsWith("module-info")) {
+                        res.add(name);
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(res);
+        return res;
+    }
+
+    private static boolean isDynamicProvider(final Class<?> provider) {
+        return DynamicClassProvider.class.equals(provider) || DynamicSingletonProvider.class.equals(provider);
+    }
+
+    private static Class<? extends Annotation> getScope(final Class<?> provider) {
+        return DynamicSingletonProvider.class.equals(provider) ? Singleton.class : null;
+    }
+}
@@ -0,0 +1,158 @@
+package ru.vyarus.guice.ext.core.generator.warmup;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.inject.AbstractModule;
+import com.google.inject.ProvidedBy;
+import com.google.inject.Singleton;
+import com.google.inject.Stage;
+import com.google.inject.internal.DynamicClassProvider;
+import com.google.inject.internal.DynamicSingletonProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.anchor.AnchorBean;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates classes for all {@code @ProvidedBy(DynamicClassProvider.class)} and
+ * {@code @ProvidedBy(DynamicSingletonProvider.class)} types in configured packages (and sub packages) during
+ * injector creation, so first provision of dynamic bean would not pay class generation cost. Types are
+ * generated in parallel (see {@link DynamicClassGenerator#generateAll(java.util.Collection, Class, Class)}).
+ * Warm-up time is logged.
+ * <p>
+ * Packages are scanned with context class loader (directories and jars with directory entries are supported,
+ * as package is resolved as class loader resource). Generation errors
+ * are reported as injector configuration errors. Warm-up is not performed in {@link Stage#TOOL}.
+ * <p>
+ * Warm-up is performed only once for module instance (module could be configured many times, e.g. with
+ * {@code Elements.getElements()} or {@code Modules.override()}): errors are reported on each configuration.
+ * <p>
+ * Generated classes must be the same as providers would generate, so, if
+ * {@link ru.vyarus.guice.ext.core.generator.anchor.GeneratorAnchorModule} is used, enable anchor with
+ * {@link #GeneratorWarmupModule(boolean, String...)}.
+ * <p>
+ * Example usage:
+ * <pre><code>
+ *     Guice.createInjector(Stage.PRODUCTION, new GeneratorWarmupModule("com.company.app"), new MyModule());
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class GeneratorWarmupModule extends AbstractModule {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorWarmupModule.class);
+
+    private final boolean anchor;
+    private final List<String> packages;
+    // not null when warm-up performed
+    private Warmup warmup;
+
+    /**
+     * @param packages packages to search dynamic types in
+     */
+    public GeneratorWarmupModule(final String... packages) {
+        this(false, packages);
+    }
+
+    /**
+     * @param anchor   true to generate classes with {@link AnchorBean} anchor (when anchor module used)
+     * @param packages packages to search dynamic types in
+     */
+    public GeneratorWarmupModule(final boolean anchor, final String... packages) {
+        Preconditions.checkArgument(packages.length > 0, "No packages provided");
+        for (String pkg : packages) {
+            Preconditions.checkArgument(!Strings.isNullOrEmpty(pkg), "Empty package declaration");
+        }
+        this.anchor = anchor;
+        this.packages = Arrays.asList(packages);
+    }
+
+    @Override
+    protected void configure() {
+        if (currentStage() == Stage.TOOL) {
+            return;
+        }
+        final Warmup result = warmup();
+        for (String error : result.scanErrors) {
+            addError("%s", error);
+        }
+        for (RuntimeException error : result.generationErrors) {
+            addError(error);
+        }
+    }
+
+    private synchronized Warmup warmup() {
+        if (warmup != null) {
+            return warmup;
+        }
+        final Warmup result = new Warmup();
+        final long start = System.nanoTime();
+        final List<Class<?>> prototypes = new ArrayList<>();
+        final List<Class<?>> singletons = new ArrayList<>();
+        for (Class<?> type : findTypes(result)) {
+            final ProvidedBy providedBy = type.getAnnotation(ProvidedBy.class);
+            if (providedBy != null && (type.isInterface() || Modifier.isAbstract(type.getModifiers()))) {
+                if (DynamicClassProvider.class.equals(providedBy.value())) {
+                    prototypes.add(type);
+                } else if (DynamicSingletonProvider.class.equals(providedBy.value())) {
+                    singletons.add(type);
+                }
+            }
+        }
+        final Class<?> anchorType = anchor ? AnchorBean.class : null;
+        result.generationErrors.addAll(DynamicClassGenerator.generateAll(prototypes, null, anchorType)
+                .getErrors().values());
+        result.generationErrors.addAll(DynamicClassGenerator.generateAll(singletons, Singleton.class, anchorType)
+                .getErrors().values());
+        final int errors = result.generationErrors.size();
+        LOGGER.info("Dynamic classes warm-up ({}): {} classes generated in {} ms{}", String.join(", ", packages),
+                prototypes.size() + singletons.size() - errors,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                errors > 0 ? " (" + errors + " failed)" : "");
+        warmup = result;
+        return result;
+    }
+
+    private List<Class<?>> findTypes(final Warmup result) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = GeneratorWarmupModule.class.getClassLoader();
+        }
+        final Set<String> names = new TreeSet<>();
+        for (String pkg : packages) {
+            try {
+                PackageScanner.scan(loader, pkg, names);
+            } catch (IOException ex) {
+                result.scanErrors.add(String.format("Failed to scan package %s for dynamic classes: %s",
+                        pkg, ex.getMessage()));
+            }
+        }
+        final List<Class<?>> res = new ArrayList<>();
+        for (String name : names) {
+            try {
+                res.add(Class.forName(name, false, loader));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                // not loadable class can't be used with guice anyway
+                LOGGER.debug("Class {} can't be loaded: {}", name, ex.getMessage());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Warm-up errors.
+     */
+    private static class Warmup {
+        private final List<String> scanErrors = new ArrayList<>();
+        private final List<RuntimeException> generationErrors = new ArrayList<>();
+    }
+}
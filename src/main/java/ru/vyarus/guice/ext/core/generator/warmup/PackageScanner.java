@@ -0,0 +1,93 @@
+package ru.vyarus.guice.ext.core.generator.warmup;
+
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Searches class names in package (and sub packages) with class loader resources. Both directories and jars
+ * are supported.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class PackageScanner {
+
+    private static final String CLASS_EXT = ".class";
+
+    private PackageScanner() {
+    }
+
+    /**
+     * @param loader class loader
+     * @param pkg    package to scan
+     * @param res    set to collect class names into
+     * @throws IOException on resources read errors
+     */
+    static void scan(final ClassLoader loader, final String pkg, final Set<String> res) throws IOException {
+        final String path = pkg.replace('.', '/');
+        final Enumeration<URL> urls = loader.getResources(path);
+        while (urls.hasMoreElements()) {
+            final URL url = urls.nextElement();
+            if ("file".equals(url.getProtocol())) {
+                scanDirectory(url, path, res);
+            } else if ("jar".equals(url.getProtocol())) {
+                scanJar(url, path, res);
+            }
+        }
+    }
+
+    private static void scanDirectory(final URL url, final String path, final Set<String> res) throws IOException {
+        final Path dir;
+        try {
+            dir = Paths.get(url.toURI());
+        } catch (URISyntaxException ex) {
+            throw new IOException("Invalid package location " + url, ex);
+        }
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                addClass(path + '/' + dir.relativize(file).toString().replace('\\', '/'), res);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void scanJar(final URL url, final String path, final Set<String> res) throws IOException {
+        final JarURLConnection connection = (JarURLConnection) url.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final String name = entries.nextElement().getName();
+                if (name.startsWith(path + '/')) {
+                    addClass(name, res);
+                }
+            }
+        }
+    }
+
+    private static void addClass(final String file, final Set<String> res) {
+        if (file.endsWith(CLASS_EXT)) {
+            final String name = file.substring(0, file.length() - CLASS_EXT.length()).replace('/', '.');
+            // ignore already generated classes
+            if (!name.endsWith(DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX)
+                    && !name.endsWith("package-info") && !name.endsWith("module-info")) {
+                res.add(name);
+            }
+        }
+    }
+}
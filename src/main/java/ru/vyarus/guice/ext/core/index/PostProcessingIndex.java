@@ -0,0 +1,279 @@
+package ru.vyarus.guice.ext.core.index;
+
+import com.google.common.collect.MapMaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compile-time annotations index (generated by {@link PostProcessingIndexProcessor}). Index contains all classes
+ * of compilation together with runtime annotations, used on declared methods and fields. Listeners consult
+ * the index before class members scan: when class is indexed and no members annotated with required annotation,
+ * {@code getDeclaredMethods()}/{@code getDeclaredFields()} are not called at all.
+ * <p>
+ * Classes, not present in index, are always scanned. Index entry is trusted only if index file is located
+ * in the same jar (or classes directory) as the class itself, so stale index from other class path entry
+ * could not hide annotated members.
+ * <p>
+ * Indexes are loaded once per class loader (with {@code ClassLoader.getResources(INDEX_FILE)}). Malformed index
+ * lines are ignored (with warning) and not readable index file is ignored completely: such classes are scanned.
+ * Index usage could be disabled with {@link #setEnabled(boolean)} or {@code guice.ext.index.disable}
+ * system property.
+ *
+ * @author Vyacheslav Rusakov
+ * @see PostProcessingIndexProcessor
+ * @since 18.10.2026
+ */
+public final class PostProcessingIndex {
+
+    /**
+     * Index file location.
+     */
+    public static final String INDEX_FILE = "META-INF/guice-ext/post-processing.idx";
+    /**
+     * System property to disable index usage.
+     */
+    public static final String DISABLE_PROPERTY = "guice.ext.index.disable";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessingIndex.class);
+
+    private static final ConcurrentMap<ClassLoader, Map<String, List<Entry>>> INDEXES =
+            new MapMaker().weakKeys().makeMap();
+    private static final ClassValue<Entry> ENTRIES = new ClassValue<Entry>() {
+        @Override
+        protected Entry computeValue(final Class<?> type) {
+            return findEntry(type);
+        }
+    };
+
+    private static volatile boolean enabled = !Boolean.getBoolean(DISABLE_PROPERTY);
+
+    private PostProcessingIndex() {
+    }
+
+    /**
+     * Enabled by default. Affects only not yet processed classes (class metadata is cached by listeners).
+     *
+     * @param enable false to always scan class members
+     */
+    public static void setEnabled(final boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * @return true if index is used
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param type class
+     * @return true if class is present in index (and index could be used for it)
+     */
+    public static boolean isIndexed(final Class<?> type) {
+        return enabled && ENTRIES.get(type) != null;
+    }
+
+    /**
+     * @param type       class
+     * @param annotation annotation type
+     * @return false if class is indexed and none of declared methods annotated, true otherwise
+     */
+    public static boolean hasMethods(final Class<?> type, final Class<? extends Annotation> annotation) {
+        final Entry entry = enabled ? ENTRIES.get(type) : null;
+        return entry == null || entry.methods.contains(annotation.getName());
+    }
+
+    /**
+     * @param type class
+     * @return false if class is indexed and none of declared methods annotated (with runtime annotation),
+     * true otherwise
+     */
+    public static boolean hasAnnotatedMethods(final Class<?> type) {
+        final Entry entry = enabled ? ENTRIES.get(type) : null;
+        return entry == null || !entry.methods.isEmpty();
+    }
+
+    /**
+     * @param type       class
+     * @param annotation annotation type
+     * @return false if class is indexed and none of declared fields annotated, true otherwise
+     */
+    public static boolean hasFields(final Class<?> type, final Class<? extends Annotation> annotation) {
+        final Entry entry = enabled ? ENTRIES.get(type) : null;
+        return entry == null || entry.fields.contains(annotation.getName());
+    }
+
+    /**
+     * @param type class
+     * @return false if class is indexed and none of declared fields annotated (with runtime annotation),
+     * true otherwise
+     */
+    public static boolean hasAnnotatedFields(final Class<?> type) {
+        final Entry entry = enabled ? ENTRIES.get(type) : null;
+        return entry == null || !entry.fields.isEmpty();
+    }
+
+    private static Entry findEntry(final Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        Map<String, List<Entry>> index = INDEXES.get(loader);
+        if (index == null) {
+            index = load(loader);
+            final Map<String, List<Entry>> existing = INDEXES.putIfAbsent(loader, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        final List<Entry> candidates = index.get(type.getName());
+        final String location = candidates == null ? null : location(type);
+        if (location != null) {
+            for (Entry entry : candidates) {
+                if (location.equals(entry.location)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, List<Entry>> load(final ClassLoader loader) {
+        final Map<String, List<Entry>> res = new HashMap<>();
+        try {
+            final Enumeration<URL> urls = loader.getResources(INDEX_FILE);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                try {
+                    merge(res, read(url));
+                } catch (IOException | RuntimeException ex) {
+                    // index not used: classes would be scanned
+                    LOGGER.warn("Failed to read post processing index " + url, ex);
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to resolve post processing indexes", ex);
+        }
+        return res;
+    }
+
+    private static void merge(final Map<String, List<Entry>> target, final Map<String, List<Entry>> source) {
+        for (Map.Entry<String, List<Entry>> entry : source.entrySet()) {
+            final List<Entry> entries = target.get(entry.getKey());
+            if (entries == null) {
+                target.put(entry.getKey(), entry.getValue());
+            } else {
+                entries.addAll(entry.getValue());
+            }
+        }
+    }
+
+    private static Map<String, List<Entry>> read(final URL url) throws IOException {
+        final Map<String, List<Entry>> res = new HashMap<>();
+        final String location = url.toExternalForm();
+        final String base = location.substring(0, location.length() - INDEX_FILE.length());
+        final URLConnection connection = url.openConnection();
+        connection.setUseCaches(false);
+        try (InputStream in = connection.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                line = line.trim();
+                final Entry entry = line.isEmpty() || line.charAt(0) == '#' ? null : parse(line, base);
+                if (entry != null) {
+                    List<Entry> entries = res.get(entry.name);
+                    if (entries == null) {
+                        entries = new ArrayList<>(1);
+                        res.put(entry.name, entries);
+                    }
+                    entries.add(entry);
+                }
+                line = reader.readLine();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Line format: {@code class.Name|m=ann.One,ann.Two|f=ann.Three} (methods and fields parts are optional).
+     *
+     * @return parsed entry or null for malformed line
+     */
+    private static Entry parse(final String line, final String base) {
+        final String[] parts = line.split("\\|");
+        Set<String> methods = Collections.emptySet();
+        Set<String> fields = Collections.emptySet();
+        boolean valid = !parts[0].isEmpty();
+        for (int i = 1; valid && i < parts.length; i++) {
+            final String part = parts[i];
+            if (part.startsWith("m=")) {
+                methods = annotations(part);
+            } else if (part.startsWith("f=")) {
+                fields = annotations(part);
+            } else {
+                valid = false;
+            }
+        }
+        if (!valid) {
+            LOGGER.warn("Malformed post processing index line ignored ({}): {}", base, line);
+            return null;
+        }
+        return new Entry(parts[0], base, methods, fields);
+    }
+
+    private static Set<String> annotations(final String part) {
+        return new HashSet<>(Arrays.asList(part.substring(2).split(",")));
+    }
+
+    /**
+     * Class file base (jar or directory) in the same format as index file url prefix (null for generated
+     * classes without class file).
+     */
+    private static String location(final Class<?> type) {
+        final String resource = type.getName().replace('.', '/') + ".class";
+        final URL url = type.getClassLoader().getResource(resource);
+        String res = null;
+        if (url != null) {
+            final String location = url.toExternalForm();
+            res = location.substring(0, location.length() - resource.length());
+        }
+        return res;
+    }
+
+    /**
+     * Indexed class.
+     */
+    private static final class Entry {
+        private final String name;
+        private final String location;
+        private final Set<String> methods;
+        private final Set<String> fields;
+
+        Entry(final String name, final String location, final Set<String> methods, final Set<String> fields) {
+            this.name = name;
+            this.location = location;
+            this.methods = methods;
+            this.fields = fields;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package ru.vyarus.guice.ext.core.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor, writing {@link PostProcessingIndex#INDEX_FILE} index: all compiled classes (including
+ * nested) with runtime annotations, used on declared methods and fields. With index, type listeners would not
+ * scan members of classes without annotations at all.
+ * <p>
+ * Processor is not registered as service (to avoid implicit processing): it must be enabled explicitly.
+ * For example, with gradle:
+ * <pre><code>
+ *     dependencies {
+ *         annotationProcessor 'ru.vyarus:guice-ext-annotations:VERSION'
+ *     }
+ *     compileJava.options.compilerArgs += ['-processor',
+ *             'ru.vyarus.guice.ext.core.index.PostProcessingIndexProcessor']
+ * </code></pre>
+ * Index always describes only classes of current compilation, so with incremental compilation only recompiled
+ * classes would be indexed (not indexed classes are scanned as usual).
+ *
+ * @author Vyacheslav Rusakov
+ * @see PostProcessingIndex
+ * @since 18.10.2026
+ */
+public class PostProcessingIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                register((TypeElement) element);
+            }
+        }
+        if (roundEnv.processingOver() && !index.isEmpty()) {
+            write();
+        }
+        // annotations are not claimed
+        return false;
+    }
+
+    private void register(final TypeElement type) {
+        final Set<String> methods = new TreeSet<>();
+        final Set<String> fields = new TreeSet<>();
+        for (Element member : type.getEnclosedElements()) {
+            final ElementKind kind = member.getKind();
+            if (kind == ElementKind.METHOD) {
+                collect(member, methods);
+            } else if (kind == ElementKind.FIELD || kind == ElementKind.ENUM_CONSTANT) {
+                collect(member, fields);
+            } else if (member instanceof TypeElement) {
+                register((TypeElement) member);
+            }
+        }
+        final StringBuilder line = new StringBuilder();
+        append(line, "m=", methods);
+        append(line, "f=", fields);
+        index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), line.toString());
+    }
+
+    private void collect(final Element member, final Set<String> res) {
+        for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+            final Element annotation = mirror.getAnnotationType().asElement();
+            final Retention retention = annotation.getAnnotation(Retention.class);
+            // default retention is CLASS (not visible at runtime); not resolved annotations are indexed
+            // because retention is unknown
+            final boolean runtime = retention == null
+                    ? annotation.getKind() != ElementKind.ANNOTATION_TYPE
+                    : retention.value() == RetentionPolicy.RUNTIME;
+            if (runtime) {
+                res.add(processingEnv.getElementUtils().getBinaryName((TypeElement) annotation).toString());
+            }
+        }
+    }
+
+    private void append(final StringBuilder line, final String prefix, final Set<String> annotations) {
+        if (!annotations.isEmpty()) {
+            line.append('|').append(prefix).append(String.join(",", annotations));
+        }
+    }
+
+    private void write() {
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", PostProcessingIndex.INDEX_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# guice-ext-annotations post processing index\n");
+                for (Map.Entry<String, String> entry : index.entrySet()) {
+                    writer.write(entry.getKey() + entry.getValue() + '\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write post processing index: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package ru.vyarus.guice.ext.core.listener;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.InjectionListener;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.ext.core.field.FieldPostProcessor;
+import ru.vyarus.guice.ext.core.field.FieldValuePostProcessor;
+import ru.vyarus.guice.ext.core.field.PreparedField;
+import ru.vyarus.guice.ext.core.generator.InjectionListenerGenerator;
+import ru.vyarus.guice.ext.core.method.MethodCallPostProcessor;
+import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.core.method.PreparedMethod;
+import ru.vyarus.guice.ext.core.type.TypePostProcessor;
+import ru.vyarus.guice.ext.core.util.Utils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type listener, applying any number of type, annotated method and annotated field post processors in one pass.
+ * Class hierarchy is scanned only once for each class (see {@link TypeMetadata}), so registration of additional
+ * annotation processors does not require additional hierarchy scans (as with separate
+ * {@link ru.vyarus.guice.ext.core.field.AnnotatedFieldTypeListener},
+ * {@link ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener} and
+ * {@link ru.vyarus.guice.ext.core.type.GeneralTypeListener} listeners).
+ * <p>
+ * Processors are called in registration order (exactly as if separate listeners would be registered in the same
+ * order). Only one injection listener is registered for bean type.
+ * <p>
+ * With {@link Builder#generateListeners()} injection listener class is generated for each bean type (requires
+ * javassist, see {@link InjectionListenerGenerator}): {@link MethodCallPostProcessor} methods are called and
+ * {@link FieldValuePostProcessor} values are assigned directly from generated code, other processors (and
+ * members not accessible from bean package, like private methods) are called from the same generated listener.
+ * If listener could not be generated, usual listener is used.
+ * <p>
+ * Types without anything to process are remembered by listener (in class value, so classes could be unloaded),
+ * so such types are resolved with a single lookup in all injectors, using the listener (e.g. child injectors).
+ * <p>
+ * Example usage:
+ * <pre><code>
+ *     bindListener(typeMatcher, PostProcessingTypeListener.builder()
+ *              .type(Destroyable.class, new DestroyableTypeProcessor(manager))
+ *              .method(PostConstruct.class, new PostConstructAnnotationProcessor())
+ *              .field(Log.class, new Slf4jLogAnnotationProcessor())
+ *              .build());
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
+public final class PostProcessingTypeListener implements TypeListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessingTypeListener.class);
+
+    private final List<Registration> registrations;
+    private final boolean generate;
+    private final ClassValue<Boolean> relevant = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            final TypeMetadata metadata = TypeMetadata.of(type);
+            for (Registration registration : registrations) {
+                if (registration.isApplicable(type, metadata)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    private PostProcessingTypeListener(final List<Registration> registrations, final boolean generate) {
+        this.registrations = registrations;
+        this.generate = generate;
+    }
+
+    /**
+     * @return listener builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UseDiamondOperator")
+    public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
+        final Class<? super I> actualType = type.getRawType();
+        if (!Utils.isPackageValid(actualType) || !relevant.get(actualType)) {
+            return;
+        }
+        final TypeMetadata metadata = TypeMetadata.of(actualType);
+        final List<Action> actions = new ArrayList<>();
+        for (Registration registration : registrations) {
+            registration.collect(actualType, metadata, actions);
+        }
+        if (!actions.isEmpty()) {
+            final InjectionListener<Object> generated = generate ? generateListener(actualType, actions) : null;
+            if (generated != null) {
+                encounter.register(generated);
+            } else {
+                final Action[] calls = actions.toArray(new Action[0]);
+                encounter.register(new InjectionListener<I>() {
+                    @Override
+                    public void afterInjection(final I injectee) {
+                        for (Action action : calls) {
+                            action.afterInjection(injectee);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private InjectionListener<Object> generateListener(final Class<?> type, final List<Action> actions) {
+        try {
+            final InjectionListenerGenerator.Plan plan = InjectionListenerGenerator.plan(type);
+            for (Action action : actions) {
+                action.plan(plan);
+            }
+            return plan.generate();
+        } catch (RuntimeException | LinkageError ex) {
+            // javassist not available or class can't be defined in bean package
+            LOGGER.debug("Failed to generate injection listener for {}, using usual listener", type.getName(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * Post processors registration.
+     */
+    public static final class Builder {
+        private final List<Registration> registrations = new ArrayList<>();
+        private boolean generate;
+
+        private Builder() {
+        }
+
+        /**
+         * Register type post processor. Bean is matched by exact type, super type or interface.
+         *
+         * @param type          bean type
+         * @param postProcessor post processor
+         * @param <T>           bean type
+         * @return builder instance for chained calls
+         */
+        public <T> Builder type(final Class<T> type, final TypePostProcessor<T> postProcessor) {
+            registrations.add(new TypeRegistration<>(Preconditions.checkNotNull(type, "Type required"),
+                    Preconditions.checkNotNull(postProcessor, "Post processor required")));
+            return this;
+        }
+
+        /**
+         * Register annotated method post processor.
+         *
+         * @param annotation    method annotation
+         * @param postProcessor post processor
+         * @param <T>           annotation type
+         * @return builder instance for chained calls
+         */
+        public <T extends Annotation> Builder method(final Class<T> annotation,
+                                                     final MethodPostProcessor<T> postProcessor) {
+            registrations.add(new MethodRegistration<>(Preconditions.checkNotNull(annotation, "Annotation required"),
+                    Preconditions.checkNotNull(postProcessor, "Post processor required")));
+            return this;
+        }
+
+        /**
+         * Register annotated field post processor.
+         *
+         * @param annotation    field annotation
+         * @param postProcessor post processor
+         * @param <T>           annotation type
+         * @return builder instance for chained calls
+         */
+        public <T extends Annotation> Builder field(final Class<T> annotation,
+                                                    final FieldPostProcessor<T> postProcessor) {
+            registrations.add(new FieldRegistration<>(Preconditions.checkNotNull(annotation, "Annotation required"),
+                    Preconditions.checkNotNull(postProcessor, "Post processor required")));
+            return this;
+        }
+
+        /**
+         * Generate injection listener class for each bean type (one class calling all post processors), instead
+         * of generic processors loop. Requires javassist.
+         *
+         * @return builder instance for chained calls
+         * @see InjectionListenerGenerator
+         */
+        public Builder generateListeners() {
+            this.generate = true;
+            return this;
+        }
+
+        /**
+         * @return listener instance
+         */
+        public PostProcessingTypeListener build() {
+            return new PostProcessingTypeListener(new ArrayList<>(registrations), generate);
+        }
+    }
+
+    /**
+     * Registered post processor. Selects post processing actions for bean type.
+     */
+    private interface Registration {
+
+        /**
+         * @return true if registration would add actions for type
+         */
+        boolean isApplicable(Class<?> type, TypeMetadata metadata);
+
+        void collect(Class<?> type, TypeMetadata metadata, List<Action> actions);
+    }
+
+    /**
+     * Post processing action for exact bean member.
+     */
+    private abstract static class Action implements InjectionListener<Object> {
+
+        /**
+         * Registers action in generated listener plan. By default, action is called from generated listener.
+         *
+         * @param plan generated listener plan
+         */
+        public void plan(final InjectionListenerGenerator.Plan plan) {
+            plan.delegate(this);
+        }
+    }
+
+    /**
+     * Type post processor registration.
+     *
+     * @param <T> bean type
+     */
+    private static class TypeRegistration<T> implements Registration {
+        private final Class<T> typeClass;
+        private final TypePostProcessor<T> postProcessor;
+
+        TypeRegistration(final Class<T> typeClass, final TypePostProcessor<T> postProcessor) {
+            this.typeClass = typeClass;
+            this.postProcessor = postProcessor;
+        }
+
+        @Override
+        public boolean isApplicable(final Class<?> type, final TypeMetadata metadata) {
+            return typeClass.isAssignableFrom(type);
+        }
+
+        @Override
+        public void collect(final Class<?> type, final TypeMetadata metadata, final List<Action> actions) {
+            if (typeClass.isAssignableFrom(type)) {
+                actions.add(new Action() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public void afterInjection(final Object instance) {
+                        try {
+                            postProcessor.process((T) instance);
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(
+                                    String.format("Failed to process type %s of class %s",
+                                            typeClass.getSimpleName(), instance.getClass().getSimpleName()), ex);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Annotated method post processor registration.
+     *
+     * @param <T> annotation type
+     */
+    private static class MethodRegistration<T extends Annotation> implements Registration {
+        private final Class<T> annotationClass;
+        private final MethodPostProcessor<T> postProcessor;
+
+        MethodRegistration(final Class<T> annotationClass, final MethodPostProcessor<T> postProcessor) {
+            this.annotationClass = annotationClass;
+            this.postProcessor = postProcessor;
+        }
+
+        @Override
+        public boolean isApplicable(final Class<?> type, final TypeMetadata metadata) {
+            return !metadata.getMethods(annotationClass).isEmpty();
+        }
+
+        @Override
+        public void collect(final Class<?> type, final TypeMetadata metadata, final List<Action> actions) {
+            for (final Method method : metadata.getMethods(annotationClass)) {
+                final PreparedMethod<T> prepared = new PreparedMethod<>(annotationClass, method, postProcessor);
+                actions.add(new Action() {
+                    @Override
+                    public void afterInjection(final Object instance) {
+                        prepared.process(instance);
+                    }
+
+                    @Override
+                    public void plan(final InjectionListenerGenerator.Plan plan) {
+                        if (postProcessor instanceof MethodCallPostProcessor && plan.canCall(method)) {
+                            plan.call(method, String.format("Failed to process annotation %s on method %s of class ",
+                                    annotationClass.getSimpleName(), method.getName()));
+                        } else {
+                            super.plan(plan);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Annotated field post processor registration.
+     *
+     * @param <T> annotation type
+     */
+    private static class FieldRegistration<T extends Annotation> implements Registration {
+        private final Class<T> annotationClass;
+        private final FieldPostProcessor<T> postProcessor;
+
+        FieldRegistration(final Class<T> annotationClass, final FieldPostProcessor<T> postProcessor) {
+            this.annotationClass = annotationClass;
+            this.postProcessor = postProcessor;
+        }
+
+        @Override
+        public boolean isApplicable(final Class<?> type, final TypeMetadata metadata) {
+            return !metadata.getFields(annotationClass).isEmpty();
+        }
+
+        @Override
+        public void collect(final Class<?> type, final TypeMetadata metadata, final List<Action> actions) {
+            for (final Field field : metadata.getFields(annotationClass)) {
+                final PreparedField<T> prepared = new PreparedField<>(annotationClass, field, postProcessor);
+                actions.add(new Action() {
+                    @Override
+                    public void afterInjection(final Object instance) {
+                        prepared.process(instance);
+                    }
+
+                    @Override
+                    public void plan(final InjectionListenerGenerator.Plan plan) {
+                        final Object value = postProcessor instanceof FieldValuePostProcessor
+                                ? resolveValue(field) : null;
+                        if (value != null && plan.canSet(field, value)) {
+                            plan.set(field, value);
+                        } else {
+                            super.plan(plan);
+                        }
+                    }
+                });
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object resolveValue(final Field field) {
+            try {
+                return ((FieldValuePostProcessor<T>) postProcessor)
+                        .getValue(field.getAnnotation(annotationClass), field);
+            } catch (Exception ex) {
+                // error will be reported by usual processing
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.vyarus.guice.ext.core.listener;
+
+import ru.vyarus.guice.ext.core.field.AnnotatedFields;
+import ru.vyarus.guice.ext.core.method.AnnotatedMethods;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Annotated members of class hierarchy. Hierarchy is scanned only once for each class (metadata cached in
+ * class value) and members are indexed by annotation type, so any number of annotation processors could
+ * use the same scan.
+ * <p>
+ * Members are ordered as declared, starting from the class itself up to the top superclass (the same order as
+ * with manual hierarchy traversal). Methods are resolved with {@link AnnotatedMethods} (overridden methods
+ * removed) and fields with {@link AnnotatedFields} (both shared with method and field listeners).
+ *
+ * @author Vyacheslav Rusakov
+ * @see PostProcessingTypeListener
+ * @since 18.10.2026
+ */
+final class TypeMetadata {
+
+    private static final ClassValue<TypeMetadata> CACHE = new ClassValue<TypeMetadata>() {
+        @Override
+        protected TypeMetadata computeValue(final Class<?> type) {
+            return new TypeMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private TypeMetadata(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @param type class
+     * @return class metadata
+     */
+    static TypeMetadata of(final Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * @param annotation annotation type
+     * @return annotated fields (from class and all super classes) or empty list
+     * @see AnnotatedFields
+     */
+    List<Field> getFields(final Class<? extends Annotation> annotation) {
+        return AnnotatedFields.get(type, annotation);
+    }
+
+    /**
+     * @param annotation annotation type
+     * @return annotated methods (from class and all super classes, without overridden methods) or empty list
+     * @see AnnotatedMethods
+     */
+    List<Method> getMethods(final Class<? extends Annotation> annotation) {
+        return AnnotatedMethods.get(type, annotation);
+    }
+}
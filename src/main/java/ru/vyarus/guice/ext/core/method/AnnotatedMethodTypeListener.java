@@ -10,7 +10,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 
 /**
- * Generic type listener to process annotated methods after bean instantiation.
+ * Generic type listener to process annotated methods after bean instantiation. Overridden methods are processed
+ * only once (see {@link AnnotatedMethods}).
  *
  * @author Vyacheslav Rusakov
  * @since 30.06.2014
@@ -20,6 +21,14 @@ public class AnnotatedMethodTypeListener<T extends Annotation> implements TypeLi
 
     private final Class<T> annotationClass;
     private final MethodPostProcessor<T> postProcessor;
+    // types without annotated methods are resolved with a single lookup (class value does not prevent classes
+    // unloading)
+    private final ClassValue<Boolean> relevant = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return !AnnotatedMethods.get(type, annotationClass).isEmpty();
+        }
+    };
 
 
     public AnnotatedMethodTypeListener(final Class<T> annotationClass,
@@ -32,30 +41,19 @@ public class AnnotatedMethodTypeListener<T extends Annotation> implements TypeLi
     @SuppressWarnings("PMD.UseDiamondOperator")
     public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
         final Class<? super I> actualType = type.getRawType();
-        if (!Utils.isPackageValid(actualType)) {
+        if (!Utils.isPackageValid(actualType) || !relevant.get(actualType)) {
             return;
         }
-        Class<? super I> investigatingType = actualType;
-        while (investigatingType != null && !investigatingType.equals(Object.class)) {
-            for (final Method method : investigatingType.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(annotationClass)) {
-                    encounter.register(new InjectionListener<I>() {
-                        @Override
-                        public void afterInjection(final I injectee) {
-                            try {
-                                method.setAccessible(true);
-                                postProcessor.process(method.getAnnotation(annotationClass), method, injectee);
-                            } catch (Exception ex) {
-                                throw new IllegalStateException(
-                                        String.format("Failed to process annotation %s on method %s of class %s",
-                                                annotationClass.getSimpleName(), method.getName(),
-                                                injectee.getClass().getSimpleName()), ex);
-                            }
-                        }
-                    });
+        // override-aware methods list, resolved once for class
+        for (final Method method : AnnotatedMethods.get(actualType, annotationClass)) {
+            // accessibility, annotation and method handle resolved once for type
+            final PreparedMethod<T> prepared = new PreparedMethod<>(annotationClass, method, postProcessor);
+            encounter.register(new InjectionListener<I>() {
+                @Override
+                public void afterInjection(final I injectee) {
+                    prepared.process(injectee);
                 }
-            }
-            investigatingType = investigatingType.getSuperclass();
+            });
         }
     }
 }
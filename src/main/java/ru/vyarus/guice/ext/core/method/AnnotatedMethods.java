@@ -0,0 +1,122 @@
+package ru.vyarus.guice.ext.core.method;
+
+import ru.vyarus.guice.ext.core.index.PostProcessingIndex;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Annotated methods of class hierarchy, resolved once per class (cached in class value, so shared by all
+ * injectors and not preventing class unloading). Methods are indexed by annotation type.
+ * <p>
+ * Methods are ordered as declared, starting from the class itself up to the top superclass. Overridden methods
+ * are removed: when both overriding and overridden methods are annotated with the same annotation, only
+ * overriding method is used (otherwise it would be called twice, because calls are virtual). Private and
+ * static methods never override, so all of them are preserved. Bridge methods are ignored.
+ *
+ * @author Vyacheslav Rusakov
+ * @see AnnotatedMethodTypeListener
+ * @since 18.10.2026
+ */
+public final class AnnotatedMethods {
+
+    private static final ClassValue<AnnotatedMethods> CACHE = new ClassValue<AnnotatedMethods>() {
+        @Override
+        protected AnnotatedMethods computeValue(final Class<?> type) {
+            return new AnnotatedMethods(type);
+        }
+    };
+
+    private final Map<Class<? extends Annotation>, List<Method>> methods = new HashMap<>();
+
+    private AnnotatedMethods(final Class<?> type) {
+        final Map<Class<? extends Annotation>, List<Method>> all = new HashMap<>();
+        Class<?> investigatingType = type;
+        while (investigatingType != null && !investigatingType.equals(Object.class)) {
+            // compile-time index allows to avoid members scan for classes without annotations
+            if (PostProcessingIndex.hasAnnotatedMethods(investigatingType)) {
+                for (Method method : investigatingType.getDeclaredMethods()) {
+                    if (!method.isBridge()) {
+                        index(all, method);
+                    }
+                }
+            }
+            investigatingType = investigatingType.getSuperclass();
+        }
+        for (Map.Entry<Class<? extends Annotation>, List<Method>> entry : all.entrySet()) {
+            methods.put(entry.getKey(), Collections.unmodifiableList(removeOverridden(entry.getValue())));
+        }
+    }
+
+    /**
+     * @param type       class
+     * @param annotation annotation type
+     * @return annotated methods (from class and all super classes, without overridden methods) or empty list
+     */
+    public static List<Method> get(final Class<?> type, final Class<? extends Annotation> annotation) {
+        final List<Method> res = CACHE.get(type).methods.get(annotation);
+        return res == null ? Collections.<Method>emptyList() : res;
+    }
+
+    private static void index(final Map<Class<? extends Annotation>, List<Method>> index, final Method method) {
+        for (Annotation annotation : method.getDeclaredAnnotations()) {
+            List<Method> members = index.get(annotation.annotationType());
+            if (members == null) {
+                members = new ArrayList<>();
+                index.put(annotation.annotationType(), members);
+            }
+            members.add(method);
+        }
+    }
+
+    private static List<Method> removeOverridden(final List<Method> methods) {
+        final List<Method> res = new ArrayList<>(methods.size());
+        for (Method method : methods) {
+            boolean overridden = false;
+            // methods of subclasses are always first
+            for (Method candidate : res) {
+                if (isOverriding(candidate, method)) {
+                    overridden = true;
+                    break;
+                }
+            }
+            if (!overridden) {
+                res.add(method);
+            }
+        }
+        return res;
+    }
+
+    private static boolean isOverriding(final Method method, final Method base) {
+        final int modifiers = method.getModifiers();
+        final int baseModifiers = base.getModifiers();
+        boolean res = false;
+        if (method.getDeclaringClass() != base.getDeclaringClass()
+                && method.getName().equals(base.getName())
+                && !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers)
+                && !Modifier.isStatic(baseModifiers) && !Modifier.isPrivate(baseModifiers)
+                && Arrays.equals(method.getParameterTypes(), base.getParameterTypes())) {
+            // package-private method could be overridden only in the same package
+            res = Modifier.isPublic(baseModifiers) || Modifier.isProtected(baseModifiers)
+                    || isSamePackage(method.getDeclaringClass(), base.getDeclaringClass());
+        }
+        return res;
+    }
+
+    private static boolean isSamePackage(final Class<?> one, final Class<?> two) {
+        return one.getClassLoader() == two.getClassLoader() && packageName(one).equals(packageName(two));
+    }
+
+    private static String packageName(final Class<?> type) {
+        final String name = type.getName();
+        final int idx = name.lastIndexOf('.');
+        return idx < 0 ? "" : name.substring(0, idx);
+    }
+}
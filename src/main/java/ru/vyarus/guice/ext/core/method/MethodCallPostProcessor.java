@@ -0,0 +1,17 @@
+package ru.vyarus.guice.ext.core.method;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Marker for method post processors, which only call annotated method without parameters on bean instance
+ * (without any other logic). When listeners generation is enabled
+ * ({@link ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener.Builder#generateListeners()}),
+ * such methods are called directly from generated listener (when method is accessible from bean package),
+ * so {@link #process(Annotation, java.lang.reflect.Method, Object)} is not called at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> annotation type
+ */
+public interface MethodCallPostProcessor<T extends Annotation> extends MethodPostProcessor<T> {
+}
@@ -0,0 +1,47 @@
+package ru.vyarus.guice.ext.core.method;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+/**
+ * Annotated method post processor, working with prepared method handle. Method is validated and method handle
+ * resolved only once for bean type (when guice first encounters type), so per-instance processing is a direct
+ * handle invocation.
+ * <p>
+ * Both {@link AnnotatedMethodTypeListener} and
+ * {@link ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener} detect this variant automatically.
+ * Method {@link #process(Annotation, Method, Object)} is used only when processor is called directly or
+ * when {@link #prepare(Annotation, Method)} returns null.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> annotation type
+ */
+public interface MethodHandlePostProcessor<T extends Annotation> extends MethodPostProcessor<T> {
+
+    /**
+     * Called once for each annotated method of bean type to validate method and resolve method handle.
+     * Method is already accessible. If method is not valid, thrown exception will be reported on each bean
+     * instance post processing (as if it was thrown by processing method).
+     *
+     * @param annotation annotation instance
+     * @param method     annotated method
+     * @return method handle to use for all bean instances or null to use
+     * {@link #process(Annotation, Method, Object)} instead
+     * @throws Exception on validation error
+     */
+    MethodHandle prepare(T annotation, Method method) throws Exception;
+
+    /**
+     * Called to post process annotated bean method.
+     * It is safe to avoid explicit exception handling (except special cases required by processor logic).
+     *
+     * @param annotation annotation instance
+     * @param method     annotated method
+     * @param handle     method handle, returned from {@link #prepare(Annotation, Method)}
+     * @param instance   bean instance
+     * @throws Exception on any unrecoverable error
+     */
+    void process(T annotation, Method method, MethodHandle handle, Object instance) throws Exception;
+}
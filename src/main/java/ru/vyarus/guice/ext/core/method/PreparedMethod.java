@@ -0,0 +1,75 @@
+package ru.vyarus.guice.ext.core.method;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+/**
+ * Annotated method post processing, prepared for exact bean type: method is made accessible, annotation is
+ * resolved and, for {@link MethodHandlePostProcessor}, method handle is prepared only once. Per-instance
+ * processing performs only post processor call. Preparation errors (e.g. not accessible method) are reported
+ * for each instance (the same way as processing errors).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> annotation type
+ */
+public final class PreparedMethod<T extends Annotation> {
+
+    private final Class<T> annotationClass;
+    private final Method method;
+    private final MethodPostProcessor<T> postProcessor;
+    private final T annotation;
+    private final MethodHandle handle;
+    private final Exception error;
+
+    /**
+     * @param annotationClass annotation type
+     * @param method          annotated method
+     * @param postProcessor   post processor
+     */
+    @SuppressWarnings("unchecked")
+    public PreparedMethod(final Class<T> annotationClass, final Method method,
+                          final MethodPostProcessor<T> postProcessor) {
+        this.annotationClass = annotationClass;
+        this.method = method;
+        this.postProcessor = postProcessor;
+        this.annotation = method.getAnnotation(annotationClass);
+        MethodHandle prepared = null;
+        Exception failure = null;
+        try {
+            method.setAccessible(true);
+            if (postProcessor instanceof MethodHandlePostProcessor) {
+                prepared = ((MethodHandlePostProcessor<T>) postProcessor).prepare(annotation, method);
+            }
+        } catch (Exception ex) {
+            // reported for each instance (exactly as access or validation error inside processing method)
+            failure = ex;
+        }
+        this.handle = prepared;
+        this.error = failure;
+    }
+
+    /**
+     * @param instance bean instance
+     * @throws IllegalStateException on post processing error
+     */
+    @SuppressWarnings("unchecked")
+    public void process(final Object instance) {
+        try {
+            if (error != null) {
+                throw error;
+            }
+            if (handle != null) {
+                ((MethodHandlePostProcessor<T>) postProcessor).process(annotation, method, handle, instance);
+            } else {
+                postProcessor.process(annotation, method, instance);
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException(
+                    String.format("Failed to process annotation %s on method %s of class %s",
+                            annotationClass.getSimpleName(), method.getName(),
+                            instance.getClass().getSimpleName()), ex);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ru.vyarus.guice.ext.core.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.inject.TypeLiteral;
+import com.google.inject.matcher.AbstractMatcher;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Object class matcher for multiple packages (and sub packages) with optional excludes. Packages are compiled
+ * into package tree: the most specific (longest) matching include or exclude package decides. When no includes
+ * declared, all packages are included (except excludes).
+ * <p>
+ * Unlike {@link ObjectPackageMatcher}, package is matched by full package segments ({@code com.foo} matches
+ * {@code com.foo} and {@code com.foo.bar}, but not {@code com.foobar}).
+ * <p>
+ * Decision is computed once per class (cached in class value), so repeated evaluations are cheap.
+ * <p>
+ * Example usage:
+ * <pre><code>
+ *     new PackagesMatcher&lt;&gt;(Arrays.asList("com.company.app", "com.company.lib"),
+ *             Arrays.asList("com.company.app.generated"))
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @param <T> matched object type
+ */
+public class PackagesMatcher<T> extends AbstractMatcher<T> {
+
+    private final Node root = new Node();
+    private final ClassValue<Boolean> decisions = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return Utils.isPackageValid(type) && decide(type.getPackage().getName());
+        }
+    };
+
+    /**
+     * @param includes packages to match
+     */
+    public PackagesMatcher(final String... includes) {
+        this(Arrays.asList(includes), Collections.<String>emptyList());
+    }
+
+    /**
+     * @param includes packages to match (empty to match all packages)
+     * @param excludes packages to exclude (could be sub packages of included packages)
+     */
+    public PackagesMatcher(final Collection<String> includes, final Collection<String> excludes) {
+        root.include = includes.isEmpty() ? Boolean.TRUE : null;
+        for (String pkg : includes) {
+            register(pkg, true);
+        }
+        for (String pkg : excludes) {
+            register(pkg, false);
+        }
+    }
+
+    @Override
+    public boolean matches(final T o) {
+        final Class<?> type = o instanceof TypeLiteral ? ((TypeLiteral) o).getRawType() : o.getClass();
+        return decisions.get(type);
+    }
+
+    private void register(final String pkg, final boolean include) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(pkg), "Empty package declaration");
+        Node node = root;
+        for (String segment : pkg.split("\\.")) {
+            Node child = node.children.get(segment);
+            if (child == null) {
+                child = new Node();
+                node.children.put(segment, child);
+            }
+            node = child;
+        }
+        Preconditions.checkArgument(node.include == null || node.include == include,
+                "Package %s declared as both include and exclude", pkg);
+        node.include = include;
+    }
+
+    private boolean decide(final String pkg) {
+        Node node = root;
+        boolean res = root.include != null && root.include;
+        int start = 0;
+        while (node != null && start <= pkg.length()) {
+            int end = pkg.indexOf('.', start);
+            if (end < 0) {
+                end = pkg.length();
+            }
+            node = node.children.get(pkg.substring(start, end));
+            if (node != null && node.include != null) {
+                res = node.include;
+            }
+            start = end + 1;
+        }
+        return res;
+    }
+
+    /**
+     * Package tree node (package segment).
+     */
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Boolean include;
+    }
+}
@@ -1,6 +1,12 @@
 package ru.vyarus.guice.ext.core.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * Generic utilities.
@@ -40,6 +46,64 @@ public final class Utils {
         }
     }
 
+    /**
+     * Resolves handle for method without parameters, accepting bean instance and ignoring method result
+     * ({@code (Object)void}). For static method instance is ignored. Method must be accessible
+     * ({@code setAccessible(true)} already called).
+     *
+     * @param method method without parameters
+     * @return method handle
+     * @throws IllegalAccessException if method is not accessible
+     */
+    public static MethodHandle noParamsHandle(final Method method) throws IllegalAccessException {
+        checkNoParams(method);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(MethodType.methodType(void.class, Object.class));
+    }
+
+    /**
+     * Invokes handle, prepared with {@link #noParamsHandle(Method)}. Any method error is wrapped with
+     * {@link InvocationTargetException} (the same way as with {@link Method#invoke(Object, Object...)}).
+     *
+     * @param handle   method handle
+     * @param instance bean instance
+     * @throws InvocationTargetException on method error
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public static void invokeNoParams(final MethodHandle handle, final Object instance)
+            throws InvocationTargetException {
+        try {
+            handle.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Resolves field setter handle with value bound: {@code (Object)void}, accepting bean instance.
+     * For static field instance is ignored. Field must be accessible ({@code setAccessible(true)} already called).
+     *
+     * @param field field
+     * @param value value to set
+     * @return method handle or null if setter handle can't be used for field (final field on java 8)
+     */
+    public static MethodHandle fieldValueSetter(final Field field, final Object value) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        handle = handle.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+        return MethodHandles.insertArguments(handle, 1, value);
+    }
+
     /**
      * Note: versions below 1.8 are not supported.
      *
@@ -1,18 +1,46 @@
 package ru.vyarus.guice.ext.log;
 
+import com.google.common.base.Throwables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import ru.vyarus.guice.ext.core.field.FieldPostProcessor;
+import ru.vyarus.guice.ext.core.field.FieldHandlePostProcessor;
+import ru.vyarus.guice.ext.core.field.FieldValuePostProcessor;
+import ru.vyarus.guice.ext.core.util.Utils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 /**
  * Injects {@code org.slf4j.Logger} instance into fields annotated with @Log annotation.
+ * Logger and field setter are resolved once for bean type. With generated listeners, logger is assigned
+ * directly.
  *
  * @author Vyacheslav Rusakov
  * @since 30.06.2014
  */
-public class Slf4jLogAnnotationProcessor implements FieldPostProcessor<Log> {
+public class Slf4jLogAnnotationProcessor implements FieldHandlePostProcessor<Log>, FieldValuePostProcessor<Log> {
+
+    @Override
+    public Object getValue(final Log annotation, final Field field) throws Exception {
+        return LoggerFactory.getLogger(field.getDeclaringClass());
+    }
+
+    @Override
+    public MethodHandle prepare(final Log annotation, final Field field) throws Exception {
+        return Utils.fieldValueSetter(field, getValue(annotation, field));
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public void process(final Log annotation, final Field field, final MethodHandle handle,
+                        final Object instance) throws Exception {
+        try {
+            handle.invokeExact(instance);
+        } catch (Throwable ex) {
+            Throwables.throwIfUnchecked(ex);
+            throw new IllegalStateException(ex);
+        }
+    }
 
     @Override
     public void process(final Log annotation, final Field field, final Object instance) throws Exception {
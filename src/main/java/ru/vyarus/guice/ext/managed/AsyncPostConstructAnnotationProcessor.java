@@ -0,0 +1,86 @@
+package ru.vyarus.guice.ext.managed;
+
+import ru.vyarus.guice.ext.core.method.MethodHandlePostProcessor;
+import ru.vyarus.guice.ext.core.util.Utils;
+import ru.vyarus.guice.ext.managed.async.AsyncInitializationManager;
+import ru.vyarus.guice.ext.managed.async.AsyncPostConstruct;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Process bean @AsyncPostConstruct annotated methods: submits annotated method call to
+ * {@link AsyncInitializationManager} just after bean initialization. Method must not have parameters and must
+ * return void or {@link CompletionStage}. Method is validated and method handle resolved once for bean type.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AsyncPostConstructAnnotationProcessor implements MethodHandlePostProcessor<AsyncPostConstruct> {
+
+    private final AsyncInitializationManager manager;
+
+    public AsyncPostConstructAnnotationProcessor(final AsyncInitializationManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public MethodHandle prepare(final AsyncPostConstruct annotation, final Method method) throws Exception {
+        checkMethod(method);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        // void methods return null
+        return handle.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    @Override
+    public void process(final AsyncPostConstruct annotation, final Method method, final MethodHandle handle,
+                        final Object instance) throws Exception {
+        submit(method, instance, new Callable<Object>() {
+            @Override
+            @SuppressWarnings("PMD.AvoidCatchingThrowable")
+            public Object call() throws Exception {
+                try {
+                    return handle.invokeExact(instance);
+                } catch (Throwable ex) {
+                    // the same as reflective call error
+                    throw new InvocationTargetException(ex);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void process(final AsyncPostConstruct annotation, final Method method, final Object instance)
+            throws Exception {
+        checkMethod(method);
+        submit(method, instance, new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return method.invoke(instance);
+            }
+        });
+    }
+
+    private void checkMethod(final Method method) {
+        Utils.checkNoParams(method);
+        final Class<?> type = method.getReturnType();
+        if (type != void.class && !CompletionStage.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("Method must return void or CompletionStage");
+        }
+    }
+
+    private void submit(final Method method, final Object instance, final Callable<Object> call) {
+        manager.submit(String.format("Failed to process annotation %s on method %s of class %s",
+                AsyncPostConstruct.class.getSimpleName(), method.getName(),
+                instance.getClass().getSimpleName()), call);
+    }
+}
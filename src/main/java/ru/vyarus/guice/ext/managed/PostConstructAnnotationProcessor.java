@@ -1,18 +1,34 @@
 package ru.vyarus.guice.ext.managed;
 
-import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.core.method.MethodCallPostProcessor;
+import ru.vyarus.guice.ext.core.method.MethodHandlePostProcessor;
 import ru.vyarus.guice.ext.core.util.Utils;
 
 import jakarta.annotation.PostConstruct;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
  * Process bean @PostConstruct annotated methods: executes annotated method just after bean initialization.
+ * Method is validated and method handle resolved once for bean type. With generated listeners, method is called
+ * directly.
  *
  * @author Vyacheslav Rusakov
  * @since 30.06.2014
  */
-public class PostConstructAnnotationProcessor implements MethodPostProcessor<PostConstruct> {
+public class PostConstructAnnotationProcessor implements MethodHandlePostProcessor<PostConstruct>,
+        MethodCallPostProcessor<PostConstruct> {
+
+    @Override
+    public MethodHandle prepare(final PostConstruct annotation, final Method method) throws Exception {
+        return Utils.noParamsHandle(method);
+    }
+
+    @Override
+    public void process(final PostConstruct annotation, final Method method, final MethodHandle handle,
+                        final Object instance) throws Exception {
+        Utils.invokeNoParams(handle, instance);
+    }
 
     @Override
     public void process(final PostConstruct annotation, final Method method, final Object instance) throws Exception {
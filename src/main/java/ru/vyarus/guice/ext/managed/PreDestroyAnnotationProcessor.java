@@ -1,20 +1,22 @@
 package ru.vyarus.guice.ext.managed;
 
-import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.core.method.MethodHandlePostProcessor;
 import ru.vyarus.guice.ext.core.util.Utils;
 import ru.vyarus.guice.ext.managed.destroyable.AnnotatedMethodDestroyable;
 import ru.vyarus.guice.ext.managed.destroyable.DestroyableManager;
 
 import jakarta.annotation.PreDestroy;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
  * Registers bean methods annotated with @PostConstruct in {@code DestroyableManager} to be called on shutdown.
+ * Method is validated and method handle resolved once for bean type.
  *
  * @author Vyacheslav Rusakov
  * @since 30.06.2014
  */
-public class PreDestroyAnnotationProcessor implements MethodPostProcessor<PreDestroy> {
+public class PreDestroyAnnotationProcessor implements MethodHandlePostProcessor<PreDestroy> {
 
     private final DestroyableManager manager;
 
@@ -22,6 +24,17 @@ public class PreDestroyAnnotationProcessor implements MethodPostProcessor<PreDes
         this.manager = manager;
     }
 
+    @Override
+    public MethodHandle prepare(final PreDestroy annotation, final Method method) throws Exception {
+        return Utils.noParamsHandle(method);
+    }
+
+    @Override
+    public void process(final PreDestroy annotation, final Method method, final MethodHandle handle,
+                        final Object instance) throws Exception {
+        manager.register(new AnnotatedMethodDestroyable(handle, instance));
+    }
+
     @Override
     public void process(final PreDestroy annotation, final Method method, final Object instance) throws Exception {
         Utils.checkNoParams(method);
@@ -0,0 +1,33 @@
+package ru.vyarus.guice.ext.managed.async;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Indicates failed asynchronous initializations. All failures are available with {@link #getFailures()}
+ * (first failure is also exception cause and others are added as suppressed exceptions).
+ *
+ * @author Vyacheslav Rusakov
+ * @see AsyncInitializationManager#await()
+ * @since 18.10.2026
+ */
+public class AsyncInitializationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Throwable> failures;
+
+    public AsyncInitializationException(final List<Throwable> failures) {
+        super(failures.size() + " async initialization(s) failed", failures.get(0));
+        this.failures = Collections.unmodifiableList(failures);
+        for (int i = 1; i < failures.size(); i++) {
+            addSuppressed(failures.get(i));
+        }
+    }
+
+    /**
+     * @return all initialization errors
+     */
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+}
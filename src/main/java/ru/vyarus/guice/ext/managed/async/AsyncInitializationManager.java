@@ -0,0 +1,232 @@
+package ru.vyarus.guice.ext.managed.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Executes asynchronous initializations (see {@link AsyncPostConstruct}) and tracks pending initializations.
+ * Application could wait for all initializations with {@link #await()} (startup barrier). Manager is bound
+ * in injector by {@link ru.vyarus.guice.ext.ExtAnnotationsModule}:
+ * <pre><code>
+ *     injector.getInstance(AsyncInitializationManager.class).await();
+ *     // open traffic
+ * </code></pre>
+ * <p>
+ * By default, virtual threads are used on java 21 and above, otherwise daemon threads pool (idle threads are
+ * released). Default executor is created on first submitted initialization and shut down with {@link #shutdown()}
+ * (called by {@link ru.vyarus.guice.ext.managed.destroyable.DestroyableManager} when manager is bound with
+ * module). Custom executor could be configured with
+ * {@link ru.vyarus.guice.ext.ExtAnnotationsModule#asyncExecutor(Executor)} (it is never shut down by manager).
+ * <p>
+ * Initialization errors are logged immediately and collected: {@link #await()} reports all errors, collected
+ * since previous await call, with {@link AsyncInitializationException}. Thread safe.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AsyncInitializationManager {
+    private final Logger logger = LoggerFactory.getLogger(AsyncInitializationManager.class);
+
+    private final boolean defaultExecutor;
+    private final List<Throwable> failures = new ArrayList<>();
+    private Executor executor;
+    private boolean shutdown;
+    private int pending;
+
+    /**
+     * Create manager with default executor (see {@link #defaultExecutor()}). Executor is created lazily (on first
+     * initialization).
+     */
+    public AsyncInitializationManager() {
+        this.defaultExecutor = true;
+    }
+
+    /**
+     * @param executor executor to run initializations with
+     */
+    public AsyncInitializationManager(final Executor executor) {
+        this.defaultExecutor = false;
+        this.executor = executor;
+    }
+
+    /**
+     * Submit initialization. If task returns {@link CompletionStage}, initialization is finished when stage
+     * completes. Initialization error is wrapped with {@link IllegalStateException} with provided error message.
+     *
+     * @param errorMessage error message for initialization failure
+     * @param task         initialization task
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public void submit(final String errorMessage, final Callable<?> task) {
+        synchronized (this) {
+            pending++;
+        }
+        try {
+            getExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    execute(errorMessage, task);
+                }
+            });
+        } catch (Throwable ex) {
+            // rejected execution (or shut down manager)
+            complete(errorMessage, ex);
+        }
+    }
+
+    /**
+     * Shuts down default executor (if it was created). Already submitted initializations are not interrupted.
+     * Initializations, submitted after shutdown, fail. Custom executor is not affected. Safe to call many times.
+     */
+    public void shutdown() {
+        final Executor exec;
+        synchronized (this) {
+            shutdown = true;
+            exec = defaultExecutor ? executor : null;
+        }
+        if (exec instanceof ExecutorService) {
+            ((ExecutorService) exec).shutdown();
+        }
+    }
+
+    /**
+     * @return count of not finished initializations
+     */
+    public synchronized int getPending() {
+        return pending;
+    }
+
+    /**
+     * Waits for all submitted initializations (including initializations submitted during waiting).
+     *
+     * @throws InterruptedException         if current thread interrupted
+     * @throws AsyncInitializationException if any initialization failed (since previous await call)
+     */
+    public void await() throws InterruptedException {
+        synchronized (this) {
+            while (pending > 0) {
+                wait();
+            }
+            reportFailures();
+        }
+    }
+
+    /**
+     * Waits for all submitted initializations for limited time.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    timeout unit
+     * @return true if all initializations finished, false on timeout
+     * @throws InterruptedException         if current thread interrupted
+     * @throws AsyncInitializationException if all initializations finished, but any of them failed
+     *                                      (since previous await call)
+     */
+    public boolean await(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            long left = deadline - System.nanoTime();
+            while (pending > 0 && left > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, left);
+                left = deadline - System.nanoTime();
+            }
+            final boolean res = pending == 0;
+            if (res) {
+                reportFailures();
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Virtual threads executor on java 21 and above, otherwise cached pool of daemon threads.
+     *
+     * @return default initialization executor
+     */
+    public static Executor defaultExecutor() {
+        try {
+            return (Executor) MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class)).invoke();
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return Executors.newCachedThreadPool(new ThreadFactory() {
+                private final AtomicInteger counter = new AtomicInteger();
+
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "async-init-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to create virtual threads executor", ex);
+        }
+    }
+
+    private synchronized Executor getExecutor() {
+        if (shutdown && defaultExecutor) {
+            throw new RejectedExecutionException("Async initialization manager is shut down");
+        }
+        if (executor == null) {
+            executor = defaultExecutor();
+        }
+        return executor;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void execute(final String errorMessage, final Callable<?> task) {
+        try {
+            final Object res = task.call();
+            if (res instanceof CompletionStage) {
+                ((CompletionStage<?>) res).whenComplete(new BiConsumer<Object, Throwable>() {
+                    @Override
+                    public void accept(final Object result, final Throwable error) {
+                        complete(errorMessage, error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error);
+                    }
+                });
+            } else {
+                complete(errorMessage, null);
+            }
+        } catch (Throwable ex) {
+            complete(errorMessage, ex);
+        }
+    }
+
+    private void complete(final String errorMessage, final Throwable error) {
+        final Throwable failure = error == null ? null : new IllegalStateException(errorMessage, error);
+        if (failure != null) {
+            logger.error("Async initialization failed", failure);
+        }
+        synchronized (this) {
+            if (failure != null) {
+                failures.add(failure);
+            }
+            pending--;
+            notifyAll();
+        }
+    }
+
+    private void reportFailures() {
+        if (!failures.isEmpty()) {
+            final List<Throwable> errors = new ArrayList<>(failures);
+            failures.clear();
+            throw new AsyncInitializationException(errors);
+        }
+    }
+}
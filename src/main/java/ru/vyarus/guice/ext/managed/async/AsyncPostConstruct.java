@@ -0,0 +1,28 @@
+package ru.vyarus.guice.ext.managed.async;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Asynchronous {@code @PostConstruct} alternative: annotated method is submitted to initialization executor
+ * (see {@link AsyncInitializationManager}) just after bean initialization, so bean creation is not blocked
+ * (useful for caches warm-up, pools opening, etc.). Annotated method must not have parameters.
+ * <p>
+ * If method returns {@link java.util.concurrent.CompletionStage}, initialization is assumed finished when stage
+ * completes. Use {@link AsyncInitializationManager#await()} to wait for all initializations (e.g. before
+ * application would start accepting requests).
+ * <p>
+ * Note that bean is available for injection before async initialization finish.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface AsyncPostConstruct {
+}
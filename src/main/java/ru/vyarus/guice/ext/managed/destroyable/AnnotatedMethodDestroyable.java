@@ -1,5 +1,8 @@
 package ru.vyarus.guice.ext.managed.destroyable;
 
+import ru.vyarus.guice.ext.core.util.Utils;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
@@ -11,15 +14,31 @@ import java.lang.reflect.Method;
 public class AnnotatedMethodDestroyable implements Destroyable {
 
     private final Method method;
+    private final MethodHandle handle;
     private final Object instance;
 
     public AnnotatedMethodDestroyable(final Method method, final Object instance) {
         this.method = method;
+        this.handle = null;
+        this.instance = instance;
+    }
+
+    /**
+     * @param handle   method handle (see {@link Utils#noParamsHandle(Method)})
+     * @param instance bean instance
+     */
+    public AnnotatedMethodDestroyable(final MethodHandle handle, final Object instance) {
+        this.method = null;
+        this.handle = handle;
         this.instance = instance;
     }
 
     @Override
     public void preDestroy() throws Exception {
-        method.invoke(instance);
+        if (handle != null) {
+            Utils.invokeNoParams(handle, instance);
+        } else {
+            method.invoke(instance);
+        }
     }
 }
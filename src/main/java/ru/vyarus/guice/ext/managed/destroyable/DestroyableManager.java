@@ -20,15 +20,17 @@ public class DestroyableManager implements Runnable {
 
     /**
      * Register destroyable instance to be called on context shutdown.
-     * Not thread safe (assuming single thread injector initialization)
+     * Thread safe (singletons could be created in parallel, see
+     * {@link ru.vyarus.guice.ext.managed.parallel.ParallelSingletonsModule}).
      *
      * @param destroyable destroyable instance
      * @see ru.vyarus.guice.ext.managed.PostConstructAnnotationProcessor regsters annotated methods
      * @see ru.vyarus.guice.ext.managed.DestroyableTypeProcessor registers beans anootated with {@code Destroyable}
      */
     public void register(final Destroyable destroyable) {
-        // assuming single thread injector creation
-        destroyListeners.add(destroyable);
+        synchronized (this) {
+            destroyListeners.add(destroyable);
+        }
     }
 
     /**
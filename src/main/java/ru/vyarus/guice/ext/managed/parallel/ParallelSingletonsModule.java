@@ -0,0 +1,90 @@
+package ru.vyarus.guice.ext.managed.parallel;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates eager singletons with lifecycle (@PostConstruct, @PreDestroy methods or
+ * {@link ru.vyarus.guice.ext.managed.destroyable.Destroyable}) in parallel during injector creation. Must be used
+ * together with {@link ru.vyarus.guice.ext.ExtAnnotationsModule} (which performs lifecycle processing).
+ * <p>
+ * Singletons dependency graph is built from guice bindings metadata (injection points): singleton is created only
+ * after all singletons it depends on (directly or through other bindings) are created, so independent singletons
+ * are created in parallel (in topological order). Only singletons, which guice would create eagerly anyway, are
+ * initialized: all singletons in {@link Stage#PRODUCTION} and eager singletons in {@link Stage#DEVELOPMENT}.
+ * Singletons without lifecycle are created as dependencies or by guice as usual. Singletons in dependency
+ * cycles (and dependent singletons) are left for usual guice initialization. {@code Provider} injections are
+ * not counted as dependencies.
+ * <p>
+ * Initialization is performed before guice eager singletons creation (as requested injection), so guice would
+ * find already created singletons. First initialization error fails injector creation. Nothing is done in
+ * {@link Stage#TOOL}.
+ * <p>
+ * Example usage:
+ * <pre><code>
+ *     Guice.createInjector(Stage.PRODUCTION, new ExtAnnotationsModule(), new ParallelSingletonsModule(),
+ *             new MyModule());
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ParallelSingletonsModule extends AbstractModule {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSingletonsModule.class);
+
+    private final int threads;
+
+    /**
+     * Use threads count equal to available processors.
+     */
+    public ParallelSingletonsModule() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads maximum count of threads to create singletons with
+     */
+    public ParallelSingletonsModule(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+    }
+
+    @Override
+    protected void configure() {
+        if (currentStage() != Stage.TOOL) {
+            requestInjection(new Initializer(currentStage(), threads));
+        }
+    }
+
+    /**
+     * Requested injection: called by guice before eager singletons creation.
+     */
+    static class Initializer {
+        private final Stage stage;
+        private final int threads;
+
+        Initializer(final Stage stage, final int threads) {
+            this.stage = stage;
+            this.threads = threads;
+        }
+
+        @Inject
+        void initialize(final Injector injector) throws InterruptedException {
+            final long start = System.nanoTime();
+            final SingletonsGraph graph = SingletonsGraph.build(injector, stage);
+            if (graph.size() > 0) {
+                final int created = graph.initialize(injector, threads);
+                LOGGER.info("Parallel singletons initialization: {} singletons created with {} threads in {} ms{}",
+                        created, threads, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                        created < graph.size() ? " (" + (graph.size() - created) + " in dependency cycles)" : "");
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package ru.vyarus.guice.ext.managed.parallel;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import com.google.inject.Stage;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.LinkedKeyBinding;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ru.vyarus.guice.ext.core.method.AnnotatedMethods;
+import ru.vyarus.guice.ext.managed.destroyable.Destroyable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dependency graph of eager singletons with lifecycle. Graph edges are resolved from bindings dependencies
+ * (injection points): dependencies through other bindings (not in graph) are followed transitively.
+ * Graph is used only once.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ParallelSingletonsModule
+ * @since 18.10.2026
+ */
+final class SingletonsGraph {
+
+    private static final Set<String> PROVIDER_TYPES = new HashSet<>(Arrays.asList(Provider.class.getName(),
+            "jakarta.inject.Provider", "javax.inject.Provider"));
+
+    private final Map<Key<?>, Node> nodes = new LinkedHashMap<>();
+
+    private ExecutorService executor;
+    private int pending;
+    private int created;
+    private Throwable failure;
+
+    private SingletonsGraph() {
+    }
+
+    /**
+     * @param injector injector
+     * @param stage    injector stage
+     * @return graph of eager singletons with lifecycle
+     */
+    static SingletonsGraph build(final Injector injector, final Stage stage) {
+        final SingletonsGraph graph = new SingletonsGraph();
+        final List<Binding<?>> bindings = new ArrayList<>();
+        for (Binding<?> binding : injector.getBindings().values()) {
+            if (isEager(injector, binding, stage) && hasLifecycle(lifecycleType(injector, binding))) {
+                graph.nodes.put(binding.getKey(), new Node(binding.getKey()));
+                bindings.add(binding);
+            }
+        }
+        for (Binding<?> binding : bindings) {
+            final Node node = graph.nodes.get(binding.getKey());
+            for (Key<?> key : graph.dependencies(injector, binding)) {
+                node.remaining.incrementAndGet();
+                graph.nodes.get(key).dependents.add(node);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @return count of singletons in graph
+     */
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Creates singletons in topological order: singleton is created when all its dependencies are created.
+     * Singletons in dependency cycles are not created.
+     *
+     * @param injector injector
+     * @param threads  maximum threads count
+     * @return count of created singletons
+     * @throws InterruptedException if current thread interrupted
+     */
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    int initialize(final Injector injector, final int threads) throws InterruptedException {
+        executor = Executors.newFixedThreadPool(Math.min(threads, nodes.size()), new ThreadFactory() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "singletons-init-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            for (Node node : nodes.values()) {
+                if (node.remaining.get() == 0) {
+                    submit(injector, node);
+                }
+            }
+            synchronized (this) {
+                while (pending > 0) {
+                    wait();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw (Error) failure;
+        }
+        return created;
+    }
+
+    private void submit(final Injector injector, final Node node) {
+        synchronized (this) {
+            pending++;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    create(injector, node);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // initialization interrupted
+            synchronized (this) {
+                pending--;
+                notifyAll();
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void create(final Injector injector, final Node node) {
+        try {
+            injector.getInstance(node.key);
+            synchronized (this) {
+                created++;
+            }
+            for (Node dependent : node.dependents) {
+                // dependents submitted before pending counter decrement
+                if (dependent.remaining.decrementAndGet() == 0 && !isFailed()) {
+                    submit(injector, dependent);
+                }
+            }
+        } catch (Throwable ex) {
+            synchronized (this) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        } finally {
+            synchronized (this) {
+                pending--;
+                notifyAll();
+            }
+        }
+    }
+
+    private synchronized boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Resolves graph nodes, required by binding. Bindings, not in graph, are traversed to find indirect
+     * dependencies.
+     */
+    private Set<Key<?>> dependencies(final Injector injector, final Binding<?> binding) {
+        final Set<Key<?>> res = new LinkedHashSet<>();
+        final Set<Key<?>> visited = new HashSet<>();
+        visited.add(binding.getKey());
+        final Deque<Dependency<?>> queue = new ArrayDeque<>(dependencies(binding));
+        while (!queue.isEmpty()) {
+            final Key<?> key = queue.pop().getKey();
+            // provider injection is lazy
+            if (PROVIDER_TYPES.contains(key.getTypeLiteral().getRawType().getName()) || !visited.add(key)) {
+                continue;
+            }
+            if (nodes.containsKey(key)) {
+                res.add(key);
+            } else {
+                queue.addAll(dependencies(injector, key));
+            }
+        }
+        return res;
+    }
+
+    private static Collection<Dependency<?>> dependencies(final Binding<?> binding) {
+        return binding instanceof HasDependencies
+                ? ((HasDependencies) binding).getDependencies() : Collections.<Dependency<?>>emptySet();
+    }
+
+    private static Collection<Dependency<?>> dependencies(final Injector injector, final Key<?> key) {
+        final Binding<?> binding = injector.getExistingBinding(key);
+        Collection<Dependency<?>> res = Collections.emptySet();
+        if (binding != null) {
+            res = dependencies(binding);
+        } else if (key.getAnnotationType() == null) {
+            // not yet created just-in-time binding
+            res = injectionPoints(key.getTypeLiteral());
+        }
+        return res;
+    }
+
+    private static Collection<Dependency<?>> injectionPoints(final TypeLiteral<?> type) {
+        final List<Dependency<?>> res = new ArrayList<>();
+        try {
+            res.addAll(InjectionPoint.forConstructorOf(type).getDependencies());
+            for (InjectionPoint point : InjectionPoint.forInstanceMethodsAndFields(type)) {
+                res.addAll(point.getDependencies());
+            }
+        } catch (ConfigurationException ex) {
+            // type could not be created by guice (will fail anyway)
+            return Collections.emptyList();
+        }
+        return res;
+    }
+
+    /**
+     * The same logic as guice eager singletons detection.
+     */
+    private static boolean isEager(final Injector injector, final Binding<?> binding, final Stage stage) {
+        final boolean res = binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<Boolean>() {
+            @Override
+            public Boolean visitEagerSingleton() {
+                return true;
+            }
+
+            @Override
+            public Boolean visitScope(final Scope scope) {
+                return stage == Stage.PRODUCTION && scope == Scopes.SINGLETON;
+            }
+
+            @Override
+            protected Boolean visitOther() {
+                return false;
+            }
+        });
+        if (!res && binding instanceof LinkedKeyBinding) {
+            final Binding<?> target = injector.getExistingBinding(((LinkedKeyBinding<?>) binding).getLinkedKey());
+            return target != null && isEager(injector, target, stage);
+        }
+        return res;
+    }
+
+    /**
+     * @return type, created by guice (with type listeners applied) or null
+     */
+    private static Class<?> lifecycleType(final Injector injector, final Binding<?> binding) {
+        Class<?> res = null;
+        if (binding instanceof ConstructorBinding) {
+            res = ((ConstructorBinding<?>) binding).getConstructor().getDeclaringType().getRawType();
+        } else if (binding instanceof LinkedKeyBinding) {
+            final Binding<?> target = injector.getExistingBinding(((LinkedKeyBinding<?>) binding).getLinkedKey());
+            res = target == null ? null : lifecycleType(injector, target);
+        }
+        return res;
+    }
+
+    private static boolean hasLifecycle(final Class<?> type) {
+        return type != null && (Destroyable.class.isAssignableFrom(type)
+                || !AnnotatedMethods.get(type, PostConstruct.class).isEmpty()
+                || !AnnotatedMethods.get(type, PreDestroy.class).isEmpty());
+    }
+
+    /**
+     * Graph node.
+     */
+    private static final class Node {
+        private final Key<?> key;
+        private final List<Node> dependents = new ArrayList<>();
+        // not created dependencies count
+        private final AtomicInteger remaining = new AtomicInteger();
+
+        Node(final Key<?> key) {
+            this.key = key;
+        }
+    }
+}
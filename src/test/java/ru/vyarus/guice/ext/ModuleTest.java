@@ -29,6 +29,20 @@ public class ModuleTest {
         assertNotNull(bean.logger);
     }
 
+    @Test
+    public void testPackageSegmentsMatch() throws Exception {
+        // package prefix (not full segment) is not matched for single and multiple packages
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule("ru.vyarus.guice.ex"));
+        assertNull(injector.getInstance(Bean.class).logger);
+        injector = Guice.createInjector(new ExtAnnotationsModule("ru.vyarus.guice.ex", "wrong.package"));
+        assertNull(injector.getInstance(Bean.class).logger);
+
+        injector = Guice.createInjector(new ExtAnnotationsModule("ru.vyarus.guice"));
+        assertNotNull(injector.getInstance(Bean.class).logger);
+        injector = Guice.createInjector(new ExtAnnotationsModule("ru.vyarus.guice", "wrong.package"));
+        assertNotNull(injector.getInstance(Bean.class).logger);
+    }
+
     public static class Bean {
         @Log
         Logger logger;
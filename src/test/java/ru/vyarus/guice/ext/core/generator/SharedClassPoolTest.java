@@ -0,0 +1,131 @@
+package ru.vyarus.guice.ext.core.generator;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtNewConstructor;
+import javassist.Modifier;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.StringMemberValue;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks class pool sharing between generations in the same class loader.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SharedClassPoolTest {
+
+    private static final int COUNT = 20;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() throws Exception {
+        JavassistEngine.setSharedPool(true);
+    }
+
+    @Test
+    public void testPoolReusedPerLoader() throws Exception {
+        final File classes = folder.newFolder("classes");
+        createTypes(classes);
+        final ClassLoader cl = loader(classes);
+        final ClassLoader cl2 = loader(classes);
+
+        final ClassPool pool = JavassistEngine.getPool(cl);
+        Assert.assertSame(pool, JavassistEngine.getPool(cl));
+        Assert.assertNotSame(pool, JavassistEngine.getPool(cl2));
+
+        // generated classes are not cached in shared pool
+        final List<String> generated = generate(cl);
+        Assert.assertSame(pool, JavassistEngine.getPool(cl));
+        final Method getCached = ClassPool.class.getDeclaredMethod("getCached", String.class);
+        getCached.setAccessible(true);
+        for (String name : generated) {
+            Assert.assertNull(name, getCached.invoke(pool, name));
+        }
+        // but source types are
+        Assert.assertNotNull(getCached.invoke(pool, "gen.Type1"));
+    }
+
+    @Test
+    public void testNotSharedPool() throws Exception {
+        JavassistEngine.setSharedPool(false);
+        final File classes = folder.newFolder("classes");
+        createTypes(classes);
+        final ClassLoader cl = loader(classes);
+
+        Assert.assertNotSame(JavassistEngine.getPool(cl), JavassistEngine.getPool(cl));
+        Assert.assertEquals(COUNT, generate(cl).size());
+    }
+
+    private ClassLoader loader(final File classes) throws Exception {
+        return new URLClassLoader(new URL[]{classes.toURI().toURL()}, SharedClassPoolTest.class.getClassLoader());
+    }
+
+    private List<String> generate(final ClassLoader cl) throws Exception {
+        final List<String> res = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            final Class<?> type = cl.loadClass("gen.Type" + i);
+            final Class<?> impl = DynamicClassGenerator.generate(type);
+            Assert.assertEquals(cl, impl.getClassLoader());
+            res.add(impl.getName());
+        }
+        return res;
+    }
+
+    /**
+     * Half of types are interfaces and half are abstract classes with injectable constructor.
+     */
+    private void createTypes(final File target) throws Exception {
+        final ClassPool pool = new ClassPool(true);
+        final CtClass provider = pool.get(Provider.class.getName());
+        for (int i = 0; i < COUNT; i++) {
+            final String name = "gen.Type" + i;
+            final CtClass type;
+            if (i % 2 == 0) {
+                type = pool.makeInterface(name);
+            } else {
+                type = pool.makeClass(name);
+                type.setModifiers(Modifier.PUBLIC | Modifier.ABSTRACT);
+                final CtConstructor ctor = CtNewConstructor.make(new CtClass[]{provider}, null, "super();", type);
+                ctor.getMethodInfo().addAttribute(annotation(type, Inject.class, null));
+                type.addConstructor(ctor);
+            }
+            type.getClassFile().addAttribute(annotation(type, Named.class, name));
+            type.writeFile(target.getAbsolutePath());
+            type.detach();
+        }
+    }
+
+    private AnnotationsAttribute annotation(final CtClass type,
+                                            final Class<? extends java.lang.annotation.Annotation> ann,
+                                            final String value) {
+        final ConstPool constPool = type.getClassFile().getConstPool();
+        final AnnotationsAttribute attr = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        final Annotation annotation = new Annotation(ann.getName(), constPool);
+        if (value != null) {
+            annotation.addMemberValue("value", new StringMemberValue(value, constPool));
+        }
+        attr.addAnnotation(annotation);
+        return attr;
+    }
+}
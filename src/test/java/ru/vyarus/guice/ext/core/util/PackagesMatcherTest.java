@@ -0,0 +1,83 @@
+package ru.vyarus.guice.ext.core.util;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.ProvisionException;
+import com.google.inject.TypeLiteral;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.postconstruct.PostConstructTest;
+import ru.vyarus.guice.ext.postprocess.PostProcessingListenerTest;
+import ru.vyarus.guice.ext.postprocess.support.MarkedBean;
+import ru.vyarus.guice.ext.predestroy.PreDestroyTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PackagesMatcherTest {
+
+    @Test
+    public void testIncludes() throws Exception {
+        PackagesMatcher<Object> matcher = new PackagesMatcher<>("ru.vyarus.guice.ext.postconstruct",
+                "ru.vyarus.guice.ext.postprocess");
+        Assert.assertTrue(matcher.matches(TypeLiteral.get(PostConstructTest.OkBean.class)));
+        // sub package
+        Assert.assertTrue(matcher.matches(TypeLiteral.get(MarkedBean.class)));
+        Assert.assertTrue(matcher.matches(new MarkedBean()));
+        Assert.assertFalse(matcher.matches(TypeLiteral.get(PreDestroyTest.OkBean.class)));
+        Assert.assertFalse(matcher.matches(TypeLiteral.get(String.class)));
+    }
+
+    @Test
+    public void testExcludes() throws Exception {
+        PackagesMatcher<Object> matcher = new PackagesMatcher<>(Collections.singletonList("ru.vyarus.guice.ext"),
+                Arrays.asList("ru.vyarus.guice.ext.postprocess", "ru.vyarus.guice.ext.postprocess.support.other"));
+        Assert.assertTrue(matcher.matches(TypeLiteral.get(PostConstructTest.OkBean.class)));
+        Assert.assertFalse(matcher.matches(TypeLiteral.get(MarkedBean.class)));
+
+        // more specific include inside exclude
+        matcher = new PackagesMatcher<>(Arrays.asList("ru.vyarus", "ru.vyarus.guice.ext.postprocess.support"),
+                Collections.singletonList("ru.vyarus.guice.ext.postprocess"));
+        Assert.assertTrue(matcher.matches(TypeLiteral.get(MarkedBean.class)));
+        Assert.assertFalse(matcher.matches(TypeLiteral.get(PostProcessingListenerTest.class)));
+
+        // excludes only
+        matcher = new PackagesMatcher<>(Collections.<String>emptyList(),
+                Collections.singletonList("ru.vyarus.guice.ext.postprocess"));
+        Assert.assertTrue(matcher.matches(TypeLiteral.get(PostConstructTest.OkBean.class)));
+        Assert.assertFalse(matcher.matches(TypeLiteral.get(MarkedBean.class)));
+    }
+
+    @Test
+    public void testPackageSegments() throws Exception {
+        // not a segment boundary
+        Assert.assertFalse(new PackagesMatcher<>("ru.vyarus.guice.ext.post")
+                .matches(TypeLiteral.get(PostConstructTest.OkBean.class)));
+        Assert.assertTrue(new PackagesMatcher<>("ru")
+                .matches(TypeLiteral.get(PostConstructTest.OkBean.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConflictingDeclaration() throws Exception {
+        new PackagesMatcher<>(Collections.singletonList("ru.vyarus"), Collections.singletonList("ru.vyarus"));
+    }
+
+    @Test
+    public void testModuleWithMultiplePackages() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule(
+                "ru.vyarus.guice.ext.postconstruct", "ru.vyarus.guice.ext.log"));
+        try {
+            injector.getInstance(PostConstructTest.KoBean.class);
+            Assert.fail();
+        } catch (ProvisionException ex) {
+            // processed package
+        }
+        // not processed package
+        injector.getInstance(PreDestroyTest.KoBean.class);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.vyarus.guice.ext.generator;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.core.generator.DynamicClassException;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.GenerationResult;
+import ru.vyarus.guice.ext.generator.support.AbstractBean;
+import ru.vyarus.guice.ext.generator.support.InterfaceBean;
+import ru.vyarus.guice.ext.generator.support.bad.BadDeclarationBean;
+import ru.vyarus.guice.ext.generator.support.bad.WrongUsageBean;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BatchGenerationTest {
+
+    @Test
+    public void testBatchGeneration() throws Exception {
+        final GenerationResult result = DynamicClassGenerator.generateAll(
+                Arrays.<Class<?>>asList(InterfaceBean.class, AbstractBean.class, InterfaceBean.class), null, null);
+        Assert.assertFalse(result.hasErrors());
+        Assert.assertEquals(Arrays.asList(InterfaceBean.class, AbstractBean.class),
+                Arrays.asList(result.getGenerated().keySet().toArray()));
+        // same classes as with direct generation
+        Assert.assertEquals(DynamicClassGenerator.generate(InterfaceBean.class), result.get(InterfaceBean.class));
+
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(InterfaceBean.class).to(result.get(InterfaceBean.class));
+                bind(AbstractBean.class).to(result.get(AbstractBean.class));
+            }
+        });
+        injector.getInstance(InterfaceBean.class);
+        injector.getInstance(AbstractBean.class);
+    }
+
+    @Test
+    public void testErrorsCollected() throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final GenerationResult result = DynamicClassGenerator.generateAll(Arrays.<Class<?>>asList(
+                    BadDeclarationBean.class, WrongUsageBean.class, AbstractBean.class), Singleton.class, null, pool);
+            Assert.assertTrue(result.hasErrors());
+            Assert.assertEquals(1, result.getGenerated().size());
+            Assert.assertEquals(2, result.getErrors().size());
+            Assert.assertTrue(result.getErrors().get(BadDeclarationBean.class) instanceof DynamicClassException);
+            Assert.assertTrue(result.getErrors().get(WrongUsageBean.class) instanceof IllegalArgumentException);
+            Assert.assertNotNull(result.get(AbstractBean.class));
+            try {
+                result.get(BadDeclarationBean.class);
+                Assert.fail();
+            } catch (DynamicClassException ex) {
+                Assert.assertEquals(result.getErrors().get(BadDeclarationBean.class), ex);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotGeneratedType() throws Exception {
+        DynamicClassGenerator.generateAll(Arrays.<Class<?>>asList(AbstractBean.class), null, null)
+                .get(InterfaceBean.class);
+    }
+}
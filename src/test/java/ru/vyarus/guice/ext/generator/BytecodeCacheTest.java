@@ -0,0 +1,193 @@
+package ru.vyarus.guice.ext.generator;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.Modifier;
+import javassist.bytecode.AnnotationDefaultAttribute;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.ParameterAnnotationsAttribute;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.EnumMemberValue;
+import javassist.bytecode.annotation.StringMemberValue;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.generator.support.classloader.SampleBean;
+
+import java.io.DataOutputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BytecodeCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    Path cacheDir;
+
+    @Before
+    public void setUp() throws Exception {
+        cacheDir = folder.newFolder("cache").toPath();
+        DynamicClassGenerator.setCacheDirectory(cacheDir);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        DynamicClassGenerator.setCacheDirectory(null);
+    }
+
+    @Test
+    public void testCacheUsage() throws Exception {
+        final String name = SampleBean.class.getName() + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX;
+        final Path entry = cacheDir.resolve(name + ".bin");
+
+        // first generation stores bytecode
+        Class<?> generated = DynamicClassGenerator.generate(newClassLoader().loadClass(SampleBean.class.getName()));
+        Assert.assertTrue(Files.exists(entry));
+        final FileTime stored = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(entry, stored);
+
+        // class defined from cache in new class loader (entry not updated)
+        ClassLoader cl = newClassLoader();
+        Class<?> generated2 = DynamicClassGenerator.generate(cl.loadClass(SampleBean.class.getName()));
+        Assert.assertEquals(cl, generated2.getClassLoader());
+        Assert.assertNotEquals(generated, generated2);
+        Assert.assertEquals(name, generated2.getName());
+        Assert.assertEquals(stored, Files.getLastModifiedTime(entry));
+    }
+
+    @Test
+    public void testStaleEntryInvalidation() throws Exception {
+        final String name = SampleBean.class.getName() + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX;
+        final Path entry = cacheDir.resolve(name + ".bin");
+        // entry with different key (as if abstract type was changed)
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(entry))) {
+            out.writeInt(0x47454E43);
+            out.writeUTF("stale");
+            out.writeInt(3);
+            out.write(new byte[]{1, 2, 3});
+        }
+
+        ClassLoader cl = newClassLoader();
+        Class<?> generated = DynamicClassGenerator.generate(cl.loadClass(SampleBean.class.getName()));
+        Assert.assertEquals(cl, generated.getClassLoader());
+        // entry overridden
+        Assert.assertTrue(Files.size(entry) > 20);
+    }
+
+    @Test
+    public void testInterfaceChangeInvalidation() throws Exception {
+        // the same type bytecode, but different super interface
+        final byte[] child = new ClassPool(true).makeInterface("gen.cache.Child",
+                new ClassPool(true).makeInterface("gen.cache.Base")).toBytecode();
+        final Path first = classes("first", "Child", child, baseInterface("a"));
+        final Path second = classes("second", "Child", child, baseInterface("a", "b"));
+        final Path entry = cacheDir.resolve("gen.cache.Child" + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX + ".bin");
+
+        DynamicClassGenerator.generate(newClassLoader(first).loadClass("gen.cache.Child"));
+        final FileTime stored = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(entry, stored);
+        // same classes: entry used
+        DynamicClassGenerator.generate(newClassLoader(first).loadClass("gen.cache.Child"));
+        Assert.assertEquals(stored, Files.getLastModifiedTime(entry));
+        // changed interface: entry re-generated
+        DynamicClassGenerator.generate(newClassLoader(second).loadClass("gen.cache.Child"));
+        Assert.assertNotEquals(stored, Files.getLastModifiedTime(entry));
+    }
+
+    @Test
+    public void testConstructorAnnotationChangeInvalidation() throws Exception {
+        // the same type bytecode, but different constructor parameter annotation
+        final byte[] bean = annotatedConstructorBean();
+        final Path first = classes("first", "Bean", bean, paramAnnotation("a"));
+        final Path second = classes("second", "Bean", bean, paramAnnotation("b"));
+        final Path entry = cacheDir.resolve("gen.cache.Bean" + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX + ".bin");
+
+        DynamicClassGenerator.generate(newClassLoader(first).loadClass("gen.cache.Bean"));
+        final FileTime stored = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(entry, stored);
+        DynamicClassGenerator.generate(newClassLoader(first).loadClass("gen.cache.Bean"));
+        Assert.assertEquals(stored, Files.getLastModifiedTime(entry));
+        DynamicClassGenerator.generate(newClassLoader(second).loadClass("gen.cache.Bean"));
+        Assert.assertNotEquals(stored, Files.getLastModifiedTime(entry));
+    }
+
+    private CtClass baseInterface(String... methods) throws Exception {
+        ClassPool pool = new ClassPool(true);
+        CtClass res = pool.makeInterface("gen.cache.Base");
+        for (String method : methods) {
+            res.addMethod(CtNewMethod.abstractMethod(CtClass.voidType, method, null, null, res));
+        }
+        return res;
+    }
+
+    private CtClass paramAnnotation(String defaultValue) throws Exception {
+        ClassPool pool = new ClassPool(true);
+        CtClass res = pool.makeAnnotation("gen.cache.Param");
+        ConstPool cp = res.getClassFile().getConstPool();
+        AnnotationsAttribute attr = new AnnotationsAttribute(cp, AnnotationsAttribute.visibleTag);
+        Annotation retention = new Annotation(Retention.class.getName(), cp);
+        EnumMemberValue policy = new EnumMemberValue(cp);
+        policy.setType(RetentionPolicy.class.getName());
+        policy.setValue(RetentionPolicy.RUNTIME.name());
+        retention.addMemberValue("value", policy);
+        attr.addAnnotation(retention);
+        res.getClassFile().addAttribute(attr);
+        CtMethod value = CtNewMethod.abstractMethod(pool.get(String.class.getName()), "value", null, null, res);
+        AnnotationDefaultAttribute def = new AnnotationDefaultAttribute(cp);
+        def.setDefaultValue(new StringMemberValue(defaultValue, cp));
+        value.getMethodInfo().addAttribute(def);
+        res.addMethod(value);
+        return res;
+    }
+
+    private byte[] annotatedConstructorBean() throws Exception {
+        ClassPool pool = new ClassPool(true);
+        CtClass res = pool.makeClass("gen.cache.Bean");
+        res.setModifiers(Modifier.PUBLIC | Modifier.ABSTRACT);
+        ConstPool cp = res.getClassFile().getConstPool();
+        CtConstructor ctor = CtNewConstructor.make(new CtClass[]{pool.get(String.class.getName())}, null,
+                "{super();}", res);
+        ParameterAnnotationsAttribute attr = new ParameterAnnotationsAttribute(cp,
+                ParameterAnnotationsAttribute.visibleTag);
+        attr.setAnnotations(new Annotation[][]{{new Annotation("gen.cache.Param", cp)}});
+        ctor.getMethodInfo().addAttribute(attr);
+        res.addConstructor(ctor);
+        return res.toBytecode();
+    }
+
+    private Path classes(String name, String typeName, byte[] type, CtClass dependency) throws Exception {
+        Path res = folder.newFolder(name).toPath();
+        Path pkg = Files.createDirectories(res.resolve("gen/cache"));
+        Files.write(pkg.resolve(dependency.getSimpleName() + ".class"), dependency.toBytecode());
+        Files.write(pkg.resolve(typeName + ".class"), type);
+        return res;
+    }
+
+    private ClassLoader newClassLoader(Path classes) throws Exception {
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, BytecodeCacheTest.class.getClassLoader());
+    }
+
+    private ClassLoader newClassLoader() {
+        final URL[] classpath = {BytecodeCacheTest.class.getResource("/")};
+        return new URLClassLoader(classpath, ClassLoader.getSystemClassLoader().getParent());
+    }
+}
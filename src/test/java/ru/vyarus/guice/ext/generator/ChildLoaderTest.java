@@ -0,0 +1,68 @@
+package ru.vyarus.guice.ext.generator;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.matcher.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.core.generator.ClassDefinitionMode;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAop;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAopInterceptor;
+import ru.vyarus.guice.ext.generator.support.unload.PackageBean;
+import ru.vyarus.guice.ext.generator.support.unload.UnloadBean;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ChildLoaderTest {
+
+    @After
+    public void tearDown() throws Exception {
+        DynamicClassGenerator.setDefinitionMode(ClassDefinitionMode.LOOKUP);
+    }
+
+    @Test
+    public void testGeneratedClassUnloading() throws Exception {
+        DynamicClassGenerator.setDefinitionMode(ClassDefinitionMode.CHILD_LOADER);
+
+        WeakReference<Class<?>> generated = useInjector();
+        // injector dropped: generated class (with its loader) must be collected
+        for (int i = 0; i < 50 && generated.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertNull("Generated class was not unloaded", generated.get());
+
+        // class generated again
+        Assert.assertNotNull(useInjector().get());
+    }
+
+    @Test
+    public void testPackagePrivateFallback() throws Exception {
+        DynamicClassGenerator.setDefinitionMode(ClassDefinitionMode.CHILD_LOADER);
+        Class<?> generated = DynamicClassGenerator.generate(PackageBean.class);
+        Assert.assertEquals(PackageBean.class.getClassLoader(), generated.getClassLoader());
+    }
+
+    private WeakReference<Class<?>> useInjector() {
+        Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindInterceptor(Matchers.any(), Matchers.annotatedWith(CustomAop.class), new CustomAopInterceptor());
+            }
+        });
+        UnloadBean bean = injector.getInstance(UnloadBean.class);
+        Assert.assertEquals("I'm intercepted!", bean.hello());
+        Class<?> generated = DynamicClassGenerator.generate(UnloadBean.class);
+        Assert.assertNotEquals(UnloadBean.class.getClassLoader(), generated.getClassLoader());
+        Assert.assertEquals(UnloadBean.class.getClassLoader(), generated.getClassLoader().getParent());
+        Assert.assertTrue(generated.isInstance(bean));
+        return new WeakReference<Class<?>>(generated);
+    }
+}
@@ -1,16 +1,22 @@
 package ru.vyarus.guice.ext.generator;
 
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
 import ru.vyarus.guice.ext.generator.support.AbstractBean;
 import ru.vyarus.guice.ext.generator.support.InterfaceBean;
 import ru.vyarus.guice.ext.generator.support.ProvidedInterfaceBean;
+import ru.vyarus.guice.ext.generator.support.classloader.SampleBean;
 import ru.vyarus.guice.ext.generator.support.ctor.CustomConstructorBean;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -59,4 +65,66 @@ public class ConcurrentGenerationTest {
         }
     }
 
+    @Test
+    public void testSingleGenerationUnderRace() throws Exception {
+        // fresh class loader to be sure class is not yet generated
+        final ClassLoader cl = new URLClassLoader(new URL[]{ConcurrentGenerationTest.class.getResource("/")},
+                ClassLoader.getSystemClassLoader().getParent());
+        final Class<?> type = cl.loadClass(SampleBean.class.getName());
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<Class<?>>> executed = new ArrayList<Future<Class<?>>>();
+        for (int i = 0; i < 20; i++) {
+            executed.add(executor.submit(new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    start.await();
+                    return DynamicClassGenerator.generate(type);
+                }
+            }));
+        }
+        start.countDown();
+        final Class<?> generated = executed.get(0).get();
+        for (Future<Class<?>> future : executed) {
+            Assert.assertTrue(generated == future.get());
+        }
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        // lookups timing: ConcurrentGenerationBenchmark
+        final Class[] types = new Class[]{
+                AbstractBean.class,
+                InterfaceBean.class,
+                ProvidedInterfaceBean.class,
+                CustomConstructorBean.class
+        };
+        final Class[] generated = new Class[types.length];
+        for (int i = 0; i < types.length; i++) {
+            generated[i] = DynamicClassGenerator.generate(types[i]);
+        }
+        final int threads = 20;
+        final int lookups = 1000;
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> executed = new ArrayList<Future<?>>();
+        for (int i = 0; i < threads; i++) {
+            final int shift = i;
+            executed.add(executor.submit(new Callable<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object call() throws Exception {
+                    start.await();
+                    // all threads must always get the same classes
+                    for (int j = 0; j < lookups; j++) {
+                        final int idx = (j + shift) % types.length;
+                        Assert.assertSame(generated[idx], DynamicClassGenerator.generate(types[idx]));
+                    }
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : executed) {
+            future.get();
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package ru.vyarus.guice.ext.generator;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.matcher.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.MethodHandler;
+import ru.vyarus.guice.ext.core.generator.MethodHandlerFactory;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAop;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAopInterceptor;
+import ru.vyarus.guice.ext.generator.support.dispatch.Dispatch;
+import ru.vyarus.guice.ext.generator.support.dispatch.DispatchBean;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class DirectDispatchTest {
+
+    static final List<String> CREATED = new ArrayList<>();
+    static final List<String> CALLS = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        DynamicClassGenerator.setDirectDispatch(true);
+        DynamicClassGenerator.registerMethodHandler(Dispatch.class, new MethodHandlerFactory() {
+            @Override
+            public MethodHandler create(final Class<?> type, final Method method) {
+                CREATED.add(method.getName());
+                return new MethodHandler() {
+                    @Override
+                    public Object handle(final Object instance, final Object[] args) throws Throwable {
+                        CALLS.add(method.getName());
+                        switch (method.getName()) {
+                            case "hello":
+                                return "hello " + args[0];
+                            case "sum":
+                                return (long) ((Integer) args[0] + (Long) args[1] + (Double) args[2]);
+                            default:
+                                Assert.assertNotNull(((DispatchBean) instance).getInjector());
+                                return null;
+                        }
+                    }
+                };
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        DynamicClassGenerator.setDirectDispatch(false);
+        DynamicClassGenerator.registerMethodHandler(Dispatch.class, null);
+    }
+
+    @Test
+    public void testDirectDispatch() throws Exception {
+        final Class<DispatchBean> generated = DynamicClassGenerator.generate(DispatchBean.class);
+        Assert.assertFalse(Modifier.isAbstract(generated.getMethod("hello", String.class).getModifiers()));
+        Assert.assertTrue(generated.getMethod("hello", String.class).isAnnotationPresent(Dispatch.class));
+        Assert.assertTrue(Modifier.isAbstract(generated.getMethod("intercepted").getModifiers()));
+
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(DispatchBean.class).to(generated);
+                bindInterceptor(Matchers.any(), Matchers.annotatedWith(CustomAop.class), new CustomAopInterceptor());
+            }
+        });
+        final DispatchBean bean = injector.getInstance(DispatchBean.class);
+        Assert.assertEquals("hello guice", bean.hello("guice"));
+        Assert.assertEquals(6L, bean.sum(1, 2L, 3d));
+        bean.run();
+        bean.hello("again");
+        // not dispatched method handled with aop
+        Assert.assertEquals("I'm intercepted!", bean.intercepted());
+
+        // handlers created once per method
+        Assert.assertEquals(3, CREATED.size());
+        Assert.assertEquals(4, CALLS.size());
+    }
+}
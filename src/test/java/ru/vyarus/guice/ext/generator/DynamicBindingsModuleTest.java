@@ -0,0 +1,143 @@
+package ru.vyarus.guice.ext.generator;
+
+import com.google.inject.*;
+import com.google.inject.name.Names;
+import com.google.inject.spi.LinkedKeyBinding;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.anchor.AnchorBean;
+import ru.vyarus.guice.ext.core.generator.anchor.GeneratorAnchorModule;
+import ru.vyarus.guice.ext.core.generator.binding.DynamicBindingsModule;
+import ru.vyarus.guice.ext.generator.support.ProvidedInterfaceBean;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAop;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAopInterceptor;
+import ru.vyarus.guice.ext.generator.support.binding.*;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+
+import static com.google.inject.matcher.Matchers.annotatedWith;
+import static com.google.inject.matcher.Matchers.any;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class DynamicBindingsModuleTest {
+
+    private static final String INTERCEPTED = "I'm intercepted!";
+
+    @Test
+    public void testDependenciesBound() throws Exception {
+        Injector injector = Guice.createInjector(new DynamicBindingsModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindInterceptor(any(), annotatedWith(CustomAop.class), new CustomAopInterceptor());
+                bind(PlainService.class);
+            }
+
+            @Provides
+            @SuppressWarnings("unused")
+            String provide(PlainAbstract bean) {
+                return bean.hello();
+            }
+        }));
+        // injected with field into bound service
+        assertLinked(injector, PlainIface.class, false);
+        // provider method parameter
+        assertLinked(injector, PlainAbstract.class, false);
+        Assert.assertEquals(INTERCEPTED, injector.getInstance(PlainService.class).hello());
+        Assert.assertEquals(INTERCEPTED, injector.getInstance(String.class));
+        // scopes preserved
+        Assert.assertSame(injector.getInstance(PlainIface.class), injector.getInstance(PlainIface.class));
+        Assert.assertNotSame(injector.getInstance(PlainAbstract.class), injector.getInstance(PlainAbstract.class));
+    }
+
+    @Test
+    public void testUntargettedBindingReplaced() throws Exception {
+        Injector injector = Guice.createInjector(new DynamicBindingsModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindInterceptor(any(), annotatedWith(CustomAop.class), new CustomAopInterceptor());
+                bind(ProvidedInterfaceBean.class);
+                bind(PlainAbstract.class).asEagerSingleton();
+            }
+        }));
+        assertLinked(injector, ProvidedInterfaceBean.class, false);
+        assertLinked(injector, PlainAbstract.class, false);
+        // dependency of abstract type
+        assertLinked(injector, PlainIface.class, false);
+        Assert.assertEquals(INTERCEPTED, injector.getInstance(ProvidedInterfaceBean.class).hello());
+        Assert.assertSame(injector.getInstance(ProvidedInterfaceBean.class),
+                injector.getInstance(ProvidedInterfaceBean.class));
+        // binding scope preserved
+        Assert.assertSame(injector.getInstance(PlainAbstract.class), injector.getInstance(PlainAbstract.class));
+    }
+
+    @Test
+    public void testChildInjectorWithAnchor() throws Exception {
+        Injector injector = Guice.createInjector().createChildInjector(new DynamicBindingsModule(
+                new GeneratorAnchorsTest.ChildAopModule("child"), new GeneratorAnchorModule(), new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(AnchoredService.class);
+                    }
+                }));
+        assertLinked(injector, AnchoredIface.class, true);
+        Assert.assertEquals("child", injector.getInstance(AnchoredService.class).hello());
+        Assert.assertNull(injector.getParent().getExistingBinding(Key.get(AnchoredIface.class)));
+    }
+
+    @Test
+    public void testPrivateModules() throws Exception {
+        Injector injector = Guice.createInjector(new DynamicBindingsModule(
+                new AnchoredPrivateModule("test"), new AnchoredPrivateModule("other")));
+        Assert.assertEquals("test", injector.getInstance(Key.get(AnchoredService.class, Names.named("test"))).hello());
+        Assert.assertEquals("other",
+                injector.getInstance(Key.get(AnchoredService.class, Names.named("other"))).hello());
+        // bound inside private modules
+        Assert.assertNull(injector.getExistingBinding(Key.get(AnchoredIface.class)));
+    }
+
+    @Test
+    public void testPrivateModuleWithoutAnchor() throws Exception {
+        Injector injector = Guice.createInjector(new DynamicBindingsModule(new PrivateModule() {
+            @Override
+            protected void configure() {
+                bind(PlainService.class);
+                expose(PlainService.class);
+            }
+        }));
+        // bound at top level, where guice would create jit binding
+        assertLinked(injector, PlainIface.class, false);
+    }
+
+    private void assertLinked(Injector injector, Class<?> type, boolean anchor) {
+        Binding<?> binding = injector.getBinding(type);
+        Assert.assertTrue(binding instanceof LinkedKeyBinding);
+        Class<?> target = ((LinkedKeyBinding<?>) binding).getLinkedKey().getTypeLiteral().getRawType();
+        Assert.assertEquals(type.getName() + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX, target.getName());
+        boolean anchored = false;
+        for (Constructor<?> ctor : target.getConstructors()) {
+            anchored |= Arrays.asList(ctor.getParameterTypes()).contains(AnchorBean.class);
+        }
+        Assert.assertEquals(anchor, anchored);
+    }
+
+    private static class AnchoredPrivateModule extends PrivateModule {
+        private final String res;
+
+        AnchoredPrivateModule(String res) {
+            this.res = res;
+        }
+
+        @Override
+        protected void configure() {
+            install(new GeneratorAnchorsTest.ChildAopModule(res));
+            install(new GeneratorAnchorModule());
+            bind(AnchoredService.class).annotatedWith(Names.named(res)).to(AnchoredService.class);
+            expose(AnchoredService.class).annotatedWith(Names.named(res));
+        }
+    }
+}
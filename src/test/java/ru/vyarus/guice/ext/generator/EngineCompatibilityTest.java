@@ -0,0 +1,83 @@
+package ru.vyarus.guice.ext.generator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import ru.vyarus.guice.ext.core.generator.AsmEngine;
+import ru.vyarus.guice.ext.core.generator.ClassGenerationEngine;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.JavassistEngine;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Runs generator tests with all generation engines. Generated classes are cached (and can't be re-defined in the
+ * same class loader), so each engine use its own isolated class loader (with guice and generator classes).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class EngineCompatibilityTest {
+
+    @Test
+    public void testJavassistEngine() throws Exception {
+        runWith(JavassistEngine.class);
+    }
+
+    @Test
+    public void testAsmEngine() throws Exception {
+        runWith(AsmEngine.class);
+    }
+
+    private void runWith(final Class<? extends ClassGenerationEngine> engine) throws Exception {
+        try (URLClassLoader cl = new IsolatedClassLoader(classpath())) {
+            final Class<?> generator = cl.loadClass(DynamicClassGenerator.class.getName());
+            generator.getMethod("setEngine", cl.loadClass(ClassGenerationEngine.class.getName()))
+                    .invoke(null, cl.loadClass(engine.getName()).newInstance());
+
+            final Result result = new JUnitCore().run(
+                    cl.loadClass(GeneratorTest.class.getName()),
+                    cl.loadClass(GeneratorAnchorsTest.class.getName()),
+                    cl.loadClass(DirectDispatchTest.class.getName()));
+            final StringBuilder failures = new StringBuilder();
+            for (Failure failure : result.getFailures()) {
+                failures.append('\n').append(failure.getTrace());
+            }
+            Assert.assertTrue(engine.getSimpleName() + " failures:" + failures, result.wasSuccessful());
+            Assert.assertTrue(result.getRunCount() > 0);
+        }
+    }
+
+    private URL[] classpath() throws Exception {
+        final String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        final URL[] res = new URL[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            res[i] = new File(entries[i]).toURI().toURL();
+        }
+        return res;
+    }
+
+    /**
+     * Isolated class loader: only junit classes are shared with test class loader (parent is ext class loader).
+     */
+    private static class IsolatedClassLoader extends URLClassLoader {
+
+        IsolatedClassLoader(final URL[] urls) {
+            super(urls, ClassLoader.getSystemClassLoader().getParent());
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            return isShared(name) ? EngineCompatibilityTest.class.getClassLoader().loadClass(name)
+                    : super.loadClass(name, resolve);
+        }
+
+        private boolean isShared(final String name) {
+            return name.startsWith("org.junit.") || name.startsWith("junit.") || name.startsWith("org.hamcrest.");
+        }
+    }
+}
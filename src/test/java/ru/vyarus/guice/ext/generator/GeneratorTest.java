@@ -75,6 +75,17 @@ public class GeneratorTest {
         injector.getInstance(ProvidedAbstractBean.class);
     }
 
+    @Test
+    public void testRepeatedProvision() throws Exception {
+        Injector injector = Guice.createInjector();
+        // generated class provider resolved once, but scope must be preserved
+        ProvidedAbstractBean bean = injector.getInstance(ProvidedAbstractBean.class);
+        Assert.assertNotSame(bean, injector.getInstance(ProvidedAbstractBean.class));
+        Assert.assertEquals(bean.getClass(), injector.getInstance(ProvidedAbstractBean.class).getClass());
+        Assert.assertSame(injector.getInstance(ProvidedInterfaceBean.class),
+                injector.getInstance(ProvidedInterfaceBean.class));
+    }
+
     @Test
     public void testAnnotationPropagation() throws Exception {
         Injector injector = Guice.createInjector();
@@ -124,6 +135,25 @@ public class GeneratorTest {
         DynamicClassGenerator.generate(BadDeclarationBean.class);
     }
 
+    @Test
+    public void testFailureRemembered() throws Exception {
+        Throwable cause = generationFailure(BadDeclarationBean.class);
+        // failure remembered: cached cause thrown without generation
+        Assert.assertSame(cause, generationFailure(BadDeclarationBean.class));
+
+        DynamicClassGenerator.clearFailures();
+        Assert.assertNotSame(cause, generationFailure(BadDeclarationBean.class));
+    }
+
+    private Throwable generationFailure(Class<?> type) {
+        try {
+            DynamicClassGenerator.generate(type);
+        } catch (DynamicClassException ex) {
+            return ex.getCause();
+        }
+        throw new AssertionError("Generation must fail");
+    }
+
     @Test
     public void testAop() throws Exception {
         Injector injector = Guice.createInjector(new AbstractModule() {
@@ -0,0 +1,67 @@
+package ru.vyarus.guice.ext.generator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import ru.vyarus.guice.ext.core.generator.ClassDefinitionMode;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.util.Utils;
+import ru.vyarus.guice.ext.generator.support.hidden.HiddenBean;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class HiddenClassTest {
+
+    @After
+    public void tearDown() throws Exception {
+        DynamicClassGenerator.setDefinitionMode(ClassDefinitionMode.LOOKUP);
+    }
+
+    @Test
+    public void testHiddenClassDefinition() throws Exception {
+        Assume.assumeFalse(Utils.isJava8());
+        Assume.assumeTrue(isHiddenMethodAvailable());
+        DynamicClassGenerator.setDefinitionMode(ClassDefinitionMode.HIDDEN);
+
+        final Class<?> generated = DynamicClassGenerator.generate(HiddenBean.class);
+        Assert.assertTrue(isHidden(generated));
+        Assert.assertTrue(HiddenBean.class.isAssignableFrom(generated));
+        // hidden class resolved from registry
+        Assert.assertSame(generated, DynamicClassGenerator.generate(HiddenBean.class));
+        Assert.assertTrue(generated.getDeclaredConstructor().newInstance() instanceof HiddenBean);
+    }
+
+    @Test
+    public void testHiddenClassFallback() throws Exception {
+        Assume.assumeFalse(Utils.isJava8());
+        Assume.assumeTrue(isHiddenMethodAvailable());
+        DynamicClassGenerator.setDefinitionMode(ClassDefinitionMode.HIDDEN);
+
+        // type from different class loader (module) could not be defined as hidden class
+        final ClassLoader cl = new URLClassLoader(new URL[]{HiddenClassTest.class.getResource("/")},
+                ClassLoader.getSystemClassLoader().getParent());
+        final Class<?> type = cl.loadClass(HiddenBean.class.getName());
+        final Class<?> generated = DynamicClassGenerator.generate(type);
+        Assert.assertEquals(cl, generated.getClassLoader());
+        Assert.assertFalse(isHidden(generated));
+    }
+
+    private boolean isHidden(final Class<?> type) throws Exception {
+        return (Boolean) Class.class.getMethod("isHidden").invoke(type);
+    }
+
+    private boolean isHiddenMethodAvailable() {
+        try {
+            Class.class.getMethod("isHidden");
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.vyarus.guice.ext.generator;
+
+import com.google.inject.Singleton;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.build.DynamicClassPregenerator;
+import ru.vyarus.guice.ext.generator.support.anchor.PureAbstractClass;
+import ru.vyarus.guice.ext.generator.support.bad.BadDeclarationBean;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PregenerationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPregeneration() throws Exception {
+        final Path classes = copyPackage(PureAbstractClass.class);
+        final Path output = folder.newFolder("output").toPath();
+
+        final List<String> generated = DynamicClassPregenerator.pregenerate(classes, output,
+                getClass().getClassLoader(), false);
+        Assert.assertEquals(4, generated.size());
+        final String target = PureAbstractClass.class.getName() + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX;
+        Assert.assertTrue(generated.contains(target));
+        Assert.assertTrue(Files.exists(output.resolve(target.replace('.', '/') + ".class")));
+
+        // generator must use pre-generated class instead of generating new one
+        final URL outputUrl = output.toUri().toURL();
+        ClassLoader cl = new URLClassLoader(new URL[]{outputUrl, PregenerationTest.class.getResource("/")},
+                ClassLoader.getSystemClassLoader().getParent());
+        Class<?> type = cl.loadClass(PureAbstractClass.class.getName());
+        Class<?> impl = DynamicClassGenerator.generate(type, Singleton.class);
+        Assert.assertEquals(cl, impl.getClassLoader());
+        Assert.assertEquals(outputUrl, impl.getProtectionDomain().getCodeSource().getLocation());
+        Assert.assertTrue(type.isInstance(impl.newInstance()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGenerationErrorsReported() throws Exception {
+        DynamicClassPregenerator.pregenerate(copyPackage(BadDeclarationBean.class), folder.newFolder("out").toPath(),
+                getClass().getClassLoader(), false);
+    }
+
+    private Path copyPackage(final Class<?> type) throws Exception {
+        final String pkg = type.getPackage().getName().replace('.', '/');
+        final Path source = Paths.get(PregenerationTest.class.getResource("/" + pkg).toURI());
+        final Path target = folder.newFolder("classes").toPath().resolve(pkg);
+        Files.createDirectories(target);
+        for (Path file : Files.newDirectoryStream(source, "*.class")) {
+            Files.copy(file, target.resolve(file.getFileName()));
+        }
+        return folder.getRoot().toPath().resolve("classes");
+    }
+}
@@ -0,0 +1,133 @@
+package ru.vyarus.guice.ext.generator;
+
+import com.google.inject.CreationException;
+import com.google.inject.Guice;
+import com.google.inject.ProvidedBy;
+import com.google.inject.Singleton;
+import com.google.inject.Stage;
+import com.google.inject.internal.DynamicClassProvider;
+import com.google.inject.spi.Elements;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.ClassMemberValue;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guice.ext.core.generator.warmup.GeneratorWarmupModule;
+import ru.vyarus.guice.ext.generator.support.warmup.WarmupIface;
+import ru.vyarus.guice.ext.generator.support.warmup.sub.WarmupAbstract;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class WarmupModuleTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWarmup() throws Exception {
+        Guice.createInjector(Stage.PRODUCTION,
+                new GeneratorWarmupModule("ru.vyarus.guice.ext.generator.support.warmup"));
+        Class<?> iface = loadGenerated(WarmupIface.class.getClassLoader(), WarmupIface.class.getName());
+        Class<?> abstr = loadGenerated(WarmupAbstract.class.getClassLoader(), WarmupAbstract.class.getName());
+        // provider would use already generated classes
+        Assert.assertSame(iface, DynamicClassGenerator.generate(WarmupIface.class));
+        Assert.assertSame(abstr, DynamicClassGenerator.generate(WarmupAbstract.class, Singleton.class));
+        Assert.assertNotNull(abstr.getAnnotation(Singleton.class));
+    }
+
+    @Test
+    public void testJarWarmup() throws Exception {
+        File jar = createJar();
+        ClassLoader loader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, WarmupModuleTest.class.getClassLoader());
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(loader);
+        try {
+            Guice.createInjector(new GeneratorWarmupModule("gen.warmup"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(context);
+        }
+        Assert.assertEquals(loader, loadGenerated(loader, "gen.warmup.JarIface").getClassLoader());
+    }
+
+    @Test(expected = CreationException.class)
+    public void testGenerationErrors() throws Exception {
+        Guice.createInjector(new GeneratorWarmupModule("ru.vyarus.guice.ext.generator.support.bad"));
+    }
+
+    @Test
+    public void testWarmupPerformedOnce() throws Exception {
+        final AtomicInteger scans = new AtomicInteger();
+        ClassLoader loader = new ClassLoader(WarmupModuleTest.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                scans.incrementAndGet();
+                return super.getResources(name);
+            }
+        };
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(loader);
+        try {
+            GeneratorWarmupModule module = new GeneratorWarmupModule("ru.vyarus.guice.ext.generator.support.warmup");
+            Elements.getElements(module);
+            Guice.createInjector(module);
+        } finally {
+            Thread.currentThread().setContextClassLoader(context);
+        }
+        Assert.assertEquals(1, scans.get());
+    }
+
+    @Test
+    public void testErrorsReportedOnEachConfiguration() throws Exception {
+        GeneratorWarmupModule module = new GeneratorWarmupModule("ru.vyarus.guice.ext.generator.support.bad");
+        Assert.assertFalse(Elements.getElements(module).isEmpty());
+        try {
+            Guice.createInjector(module);
+            Assert.fail();
+        } catch (CreationException ex) {
+            Assert.assertFalse(ex.getErrorMessages().isEmpty());
+        }
+    }
+
+    private Class<?> loadGenerated(ClassLoader loader, String type) throws Exception {
+        // fails if class was not generated
+        return Class.forName(type + DynamicClassGenerator.DYNAMIC_CLASS_POSTFIX, false, loader);
+    }
+
+    private File createJar() throws Exception {
+        ClassPool pool = new ClassPool(true);
+        CtClass type = pool.makeInterface("gen.warmup.JarIface");
+        ConstPool constPool = type.getClassFile().getConstPool();
+        AnnotationsAttribute attr = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        Annotation annotation = new Annotation(ProvidedBy.class.getName(), constPool);
+        annotation.addMemberValue("value", new ClassMemberValue(DynamicClassProvider.class.getName(), constPool));
+        attr.addAnnotation(annotation);
+        type.getClassFile().addAttribute(attr);
+        File res = folder.newFile("types.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(res))) {
+            // directory entries required for package resources lookup
+            out.putNextEntry(new JarEntry("gen/"));
+            out.putNextEntry(new JarEntry("gen/warmup/"));
+            out.putNextEntry(new JarEntry("gen/warmup/JarIface.class"));
+            out.write(type.toBytecode());
+        }
+        return res;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.vyarus.guice.ext.generator.support.binding;
+
+import com.google.inject.Inject;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AnchoredService {
+
+    @Inject
+    AnchoredIface iface;
+
+    public String hello() {
+        return iface.hello();
+    }
+}
@@ -0,0 +1,24 @@
+package ru.vyarus.guice.ext.generator.support.binding;
+
+import com.google.inject.Inject;
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicClassProvider;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicClassProvider.class)
+public abstract class PlainAbstract {
+
+    private final PlainIface iface;
+
+    @Inject
+    public PlainAbstract(PlainIface iface) {
+        this.iface = iface;
+    }
+
+    public String hello() {
+        return iface.hello();
+    }
+}
@@ -0,0 +1,16 @@
+package ru.vyarus.guice.ext.generator.support.binding;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicSingletonProvider;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAop;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicSingletonProvider.class)
+public interface PlainIface {
+
+    @CustomAop
+    String hello();
+}
@@ -0,0 +1,16 @@
+package ru.vyarus.guice.ext.generator.support.dispatch;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Dispatch {
+}
@@ -0,0 +1,35 @@
+package ru.vyarus.guice.ext.generator.support.dispatch;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAop;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public abstract class DispatchBean {
+
+    private final Injector injector;
+
+    @Inject
+    public DispatchBean(final Injector injector) {
+        this.injector = injector;
+    }
+
+    public Injector getInjector() {
+        return injector;
+    }
+
+    @Dispatch
+    public abstract String hello(String name);
+
+    @Dispatch
+    public abstract long sum(int a, long b, double c);
+
+    @Dispatch
+    public abstract void run() throws Exception;
+
+    @CustomAop
+    public abstract String intercepted();
+}
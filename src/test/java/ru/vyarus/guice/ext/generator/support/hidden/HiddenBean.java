@@ -0,0 +1,13 @@
+package ru.vyarus.guice.ext.generator.support.hidden;
+
+/**
+ * Used only in hidden classes test: registry key does not include definition mode, so generated hidden
+ * class would be returned for all other generations of the same type.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface HiddenBean {
+
+    String sample();
+}
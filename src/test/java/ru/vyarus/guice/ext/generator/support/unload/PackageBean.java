@@ -0,0 +1,14 @@
+package ru.vyarus.guice.ext.generator.support.unload;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicClassProvider;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicClassProvider.class)
+public abstract class PackageBean {
+
+    abstract String hello();
+}
@@ -0,0 +1,29 @@
+package ru.vyarus.guice.ext.generator.support.unload;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicClassProvider;
+import ru.vyarus.guice.ext.generator.support.aop.CustomAop;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicClassProvider.class)
+public abstract class UnloadBean {
+
+    private final Injector injector;
+
+    @Inject
+    public UnloadBean(Injector injector) {
+        this.injector = injector;
+    }
+
+    public Injector getInjector() {
+        return injector;
+    }
+
+    @CustomAop
+    public abstract String hello();
+}
@@ -0,0 +1,12 @@
+package ru.vyarus.guice.ext.generator.support.warmup;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicClassProvider;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicClassProvider.class)
+public interface WarmupIface {
+}
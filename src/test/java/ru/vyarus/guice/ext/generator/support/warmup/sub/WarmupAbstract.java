@@ -0,0 +1,12 @@
+package ru.vyarus.guice.ext.generator.support.warmup.sub;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicSingletonProvider;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicSingletonProvider.class)
+public abstract class WarmupAbstract {
+}
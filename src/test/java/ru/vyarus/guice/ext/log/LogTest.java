@@ -29,6 +29,14 @@ public class LogTest {
         assertNotNull(bean.logger2);
     }
 
+    @Test
+    public void testInheritedAndStaticFields() throws Exception {
+        ChildBean bean = injector.getInstance(ChildBean.class);
+        assertNotNull(bean.logger);
+        assertNotNull(bean.childLogger);
+        assertNotNull(ChildBean.staticLogger);
+    }
+
     @Test(expected = ProvisionException.class)
     public void testFail() throws Exception {
         injector.getInstance(KoBean.class);
@@ -41,6 +49,13 @@ public class LogTest {
         private Logger logger2;
     }
 
+    public static class ChildBean extends OkBean {
+        @Log
+        static Logger staticLogger;
+        @Log
+        Logger childLogger;
+    }
+
     public static class KoBean {
         @Log
         private java.util.logging.Logger logger2;
@@ -0,0 +1,214 @@
+package ru.vyarus.guice.ext.parallel;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.CreationException;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import com.google.inject.Stage;
+import jakarta.annotation.PostConstruct;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.managed.destroyable.Destroyable;
+import ru.vyarus.guice.ext.managed.destroyable.DestroyableManager;
+import ru.vyarus.guice.ext.managed.parallel.ParallelSingletonsModule;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ParallelSingletonsTest {
+
+    @Test
+    public void testParallelInitialization() throws Exception {
+        Injector injector = Guice.createInjector(Stage.PRODUCTION, new ExtAnnotationsModule(),
+                new ParallelSingletonsModule(4), new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(Dependent.class);
+                        bind(First.class);
+                        bind(Second.class);
+                    }
+                });
+        First first = injector.getInstance(First.class);
+        Second second = injector.getInstance(Second.class);
+        // independent singletons initialized at the same time
+        Assert.assertTrue(first.parallel);
+        Assert.assertTrue(second.parallel);
+        Assert.assertTrue(first.thread.getName().startsWith("singletons-init-"));
+        Assert.assertNotSame(first.thread, second.thread);
+        // dependent singleton created after dependencies initialization
+        Assert.assertTrue(injector.getInstance(Dependent.class).dependenciesReady);
+
+        // destroyables registered from different threads
+        injector.getInstance(DestroyableManager.class).destroy();
+        Assert.assertTrue(first.destroyed);
+        Assert.assertTrue(second.destroyed);
+    }
+
+    @Test
+    public void testCycle() throws Exception {
+        Injector injector = Guice.createInjector(Stage.PRODUCTION, new ExtAnnotationsModule(),
+                new ParallelSingletonsModule(), new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(CycleOne.class);
+                        bind(CycleTwo.class);
+                    }
+                });
+        // cycle left for guice
+        Assert.assertSame(injector.getInstance(CycleOne.class), injector.getInstance(CycleTwo.class).one);
+        Assert.assertEquals(1, injector.getInstance(CycleOne.class).initCalls);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        try {
+            Guice.createInjector(Stage.PRODUCTION, new ExtAnnotationsModule(), new ParallelSingletonsModule(),
+                    new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Failing.class);
+                        }
+                    });
+            Assert.fail();
+        } catch (CreationException ex) {
+            Assert.assertTrue(ex.getMessage().contains("Failed to process annotation PostConstruct"));
+        }
+    }
+
+    @Test
+    public void testDevelopmentStage() throws Exception {
+        Lazy.CREATED.set(0);
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule(), new ParallelSingletonsModule(),
+                new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(Lazy.class);
+                    }
+                });
+        // not eager singleton not created
+        Assert.assertEquals(0, Lazy.CREATED.get());
+        injector.getInstance(Lazy.class);
+        Assert.assertEquals(1, Lazy.CREATED.get());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            return false;
+        }
+    }
+
+    @Singleton
+    public static class Barrier {
+        final CountDownLatch latch = new CountDownLatch(2);
+    }
+
+    @Singleton
+    public static class First implements Destroyable {
+        @Inject
+        Barrier barrier;
+        boolean parallel;
+        boolean initialized;
+        boolean destroyed;
+        Thread thread;
+
+        @PostConstruct
+        public void init() {
+            thread = Thread.currentThread();
+            parallel = await(barrier.latch);
+            initialized = true;
+        }
+
+        @Override
+        public void preDestroy() throws Exception {
+            destroyed = true;
+        }
+    }
+
+    @Singleton
+    public static class Second implements Destroyable {
+        @Inject
+        Barrier barrier;
+        boolean parallel;
+        boolean initialized;
+        boolean destroyed;
+        Thread thread;
+
+        @PostConstruct
+        public void init() {
+            thread = Thread.currentThread();
+            parallel = await(barrier.latch);
+            initialized = true;
+        }
+
+        @Override
+        public void preDestroy() throws Exception {
+            destroyed = true;
+        }
+    }
+
+    @Singleton
+    public static class Dependent {
+        boolean dependenciesReady;
+
+        @Inject
+        public Dependent(First first, Second second) {
+            dependenciesReady = first.initialized && second.initialized;
+        }
+
+        @PostConstruct
+        public void init() {
+        }
+    }
+
+    @Singleton
+    public static class CycleOne {
+        @Inject
+        CycleTwo two;
+        int initCalls;
+
+        @PostConstruct
+        public void init() {
+            initCalls++;
+        }
+    }
+
+    @Singleton
+    public static class CycleTwo {
+        @Inject
+        CycleOne one;
+
+        @PostConstruct
+        public void init() {
+        }
+    }
+
+    @Singleton
+    public static class Failing {
+
+        @PostConstruct
+        public void init() {
+            throw new IllegalStateException("init failure");
+        }
+    }
+
+    @Singleton
+    public static class Lazy {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        @PostConstruct
+        public void init() {
+            CREATED.incrementAndGet();
+        }
+    }
+}
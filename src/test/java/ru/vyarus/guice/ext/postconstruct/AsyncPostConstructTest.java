@@ -0,0 +1,196 @@
+package ru.vyarus.guice.ext.postconstruct;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.managed.async.AsyncInitializationException;
+import ru.vyarus.guice.ext.managed.async.AsyncInitializationManager;
+import ru.vyarus.guice.ext.managed.async.AsyncPostConstruct;
+import ru.vyarus.guice.ext.managed.destroyable.DestroyableManager;
+
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AsyncPostConstructTest {
+
+    @Test
+    public void testAsyncInit() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        SlowBean bean = injector.getInstance(SlowBean.class);
+        AsyncInitializationManager manager = injector.getInstance(AsyncInitializationManager.class);
+        // bean created before initialization finish
+        Assert.assertTrue(bean.syncInit);
+        Assert.assertEquals(1, manager.getPending());
+        Assert.assertFalse(manager.await(50, TimeUnit.MILLISECONDS));
+
+        bean.latch.countDown();
+        manager.await();
+        Assert.assertEquals(0, manager.getPending());
+        Assert.assertTrue(bean.asyncInit);
+        Assert.assertNotSame(Thread.currentThread(), bean.thread);
+    }
+
+    @Test
+    public void testCompletionStage() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        StageBean bean = injector.getInstance(StageBean.class);
+        AsyncInitializationManager manager = injector.getInstance(AsyncInitializationManager.class);
+        // method already called, but stage not completed
+        bean.called.await();
+        Assert.assertFalse(manager.await(50, TimeUnit.MILLISECONDS));
+
+        bean.stage.complete("done");
+        Assert.assertTrue(manager.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAggregatedFailures() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        injector.getInstance(FailingBean.class);
+        StageBean bean = injector.getInstance(StageBean.class);
+        bean.called.await();
+        bean.stage.completeExceptionally(new IllegalStateException("stage failure"));
+        AsyncInitializationManager manager = injector.getInstance(AsyncInitializationManager.class);
+        try {
+            manager.await();
+            Assert.fail();
+        } catch (AsyncInitializationException ex) {
+            Assert.assertEquals(2, ex.getFailures().size());
+            Assert.assertEquals(1, ex.getSuppressed().length);
+            for (Throwable failure : ex.getFailures()) {
+                Assert.assertTrue(failure.getMessage().startsWith("Failed to process annotation AsyncPostConstruct"));
+            }
+        }
+        // failures reported once
+        manager.await();
+    }
+
+    @Test
+    public void testCustomExecutor() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule().asyncExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }));
+        SameThreadBean bean = injector.getInstance(SameThreadBean.class);
+        Assert.assertSame(Thread.currentThread(), bean.thread);
+        Assert.assertEquals(0, injector.getInstance(AsyncInitializationManager.class).getPending());
+    }
+
+    @Test
+    public void testExecutorShutdown() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        AsyncInitializationManager manager = injector.getInstance(AsyncInitializationManager.class);
+        injector.getInstance(SameThreadBean.class);
+        manager.await();
+        injector.getInstance(DestroyableManager.class).destroy();
+
+        // default executor shut down with context
+        injector.getInstance(SameThreadBean.class);
+        try {
+            manager.await();
+            Assert.fail();
+        } catch (AsyncInitializationException ex) {
+            Assert.assertTrue(ex.getFailures().get(0).getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertEquals(0, manager.getPending());
+    }
+
+    @Test
+    public void testCustomExecutorNotShutdown() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Injector injector = Guice.createInjector(new ExtAnnotationsModule().asyncExecutor(executor));
+            injector.getInstance(DestroyableManager.class).destroy();
+            Assert.assertFalse(executor.isShutdown());
+            injector.getInstance(SameThreadBean.class);
+            Assert.assertTrue(injector.getInstance(AsyncInitializationManager.class).await(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBadMethod() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        try {
+            injector.getInstance(BadBean.class);
+            Assert.fail();
+        } catch (Exception ex) {
+            Assert.assertEquals("Method must return void or CompletionStage",
+                    ex.getCause().getCause().getMessage());
+        }
+    }
+
+    @Singleton
+    public static class SlowBean {
+        final CountDownLatch latch = new CountDownLatch(1);
+        boolean syncInit;
+        volatile boolean asyncInit;
+        volatile Thread thread;
+
+        @PostConstruct
+        public void init() {
+            syncInit = true;
+        }
+
+        @AsyncPostConstruct
+        public void asyncInit() throws Exception {
+            thread = Thread.currentThread();
+            latch.await();
+            asyncInit = true;
+        }
+    }
+
+    @Singleton
+    public static class StageBean {
+        final CountDownLatch called = new CountDownLatch(1);
+        final CompletableFuture<String> stage = new CompletableFuture<>();
+
+        @AsyncPostConstruct
+        public CompletionStage<String> init() {
+            called.countDown();
+            return stage;
+        }
+    }
+
+    public static class FailingBean {
+
+        @AsyncPostConstruct
+        public void init() {
+            throw new IllegalStateException("init failure");
+        }
+    }
+
+    public static class SameThreadBean {
+        Thread thread;
+
+        @AsyncPostConstruct
+        public void init() {
+            thread = Thread.currentThread();
+        }
+    }
+
+    public static class BadBean {
+
+        @AsyncPostConstruct
+        public String init() {
+            return "bad";
+        }
+    }
+}
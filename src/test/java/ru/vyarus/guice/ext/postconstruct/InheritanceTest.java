@@ -19,6 +19,20 @@ public class InheritanceTest {
         Assert.assertEquals(2, bean.counter);
     }
 
+    @Test
+    public void testOverriddenMethod() throws Exception {
+        // overriding method called once
+        OverridingBean bean = Guice.createInjector(new ExtAnnotationsModule()).getInstance(OverridingBean.class);
+        Assert.assertEquals(2, bean.counter);
+        Assert.assertEquals(1, bean.overrideCalls);
+
+        // overriding method without annotation called once (base method call is virtual)
+        NotAnnotatedOverrideBean bean2 = Guice.createInjector(new ExtAnnotationsModule())
+                .getInstance(NotAnnotatedOverrideBean.class);
+        Assert.assertEquals(1, bean2.counter);
+        Assert.assertEquals(1, bean2.overrideCalls);
+    }
+
     public static class Bean extends BaseBean {
 
     }
@@ -36,4 +50,24 @@ public class InheritanceTest {
             counter++;
         }
     }
+
+    public static class OverridingBean extends BaseBean {
+        int overrideCalls;
+
+        @Override
+        @PostConstruct
+        public void init() {
+            super.init();
+            overrideCalls++;
+        }
+    }
+
+    public static class NotAnnotatedOverrideBean extends BaseBean {
+        int overrideCalls;
+
+        @Override
+        public void init() {
+            overrideCalls++;
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package ru.vyarus.guice.ext.postprocess;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.ProvisionException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.core.generator.DynamicClassException;
+import ru.vyarus.guice.ext.core.generator.InjectionListenerGenerator;
+import ru.vyarus.guice.ext.log.Log;
+import ru.vyarus.guice.ext.managed.destroyable.Destroyable;
+import ru.vyarus.guice.ext.managed.destroyable.DestroyableManager;
+import ru.vyarus.guice.ext.postprocess.support.lifecycle.LifecycleBase;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class GeneratedListenerTest {
+
+    @Test
+    public void testGeneratedListener() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule().generateListeners());
+        LifecycleBean bean = injector.getInstance(LifecycleBean.class);
+        // default processors order: destroyable, post construct, pre destroy, log
+        Assert.assertEquals(Arrays.asList("init", "privateInit", "baseInit"), bean.calls);
+        Assert.assertNotNull(bean.logger);
+        Assert.assertNotNull(bean.privateLogger);
+        Assert.assertNotNull(bean.getBaseLogger());
+        Assert.assertNotNull(Class.forName(LifecycleBean.class.getName()
+                + InjectionListenerGenerator.LISTENER_CLASS_POSTFIX + 0));
+
+        injector.getInstance(DestroyableManager.class).destroy();
+        Assert.assertEquals(Arrays.asList("init", "privateInit", "baseInit", "destroyable", "destroy"),
+                bean.calls);
+    }
+
+    @Test
+    public void testGeneratedClassReused() throws Exception {
+        Guice.createInjector(new ExtAnnotationsModule().generateListeners()).getInstance(ReusedBean.class);
+        ReusedBean bean = Guice.createInjector(new ExtAnnotationsModule().generateListeners())
+                .getInstance(ReusedBean.class);
+        Assert.assertEquals(1, bean.counter);
+        Assert.assertNotNull(bean.logger);
+        Class.forName(ReusedBean.class.getName() + InjectionListenerGenerator.LISTENER_CLASS_POSTFIX + 0);
+        try {
+            Class.forName(ReusedBean.class.getName() + InjectionListenerGenerator.LISTENER_CLASS_POSTFIX + 1);
+            Assert.fail();
+        } catch (ClassNotFoundException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDirectCallError() throws Exception {
+        Injector injector = Guice.createInjector(new ExtAnnotationsModule().generateListeners());
+        try {
+            injector.getInstance(KoBean.class);
+            Assert.fail();
+        } catch (ProvisionException ex) {
+            Throwable cause = ex.getCause();
+            Assert.assertEquals("Failed to process annotation PostConstruct on method init of class KoBean",
+                    cause.getMessage());
+            Assert.assertTrue(cause.getCause() instanceof InvocationTargetException);
+            Assert.assertEquals("foo", cause.getCause().getCause().getMessage());
+        }
+    }
+
+    @Test(expected = ProvisionException.class)
+    public void testValidationError() throws Exception {
+        Guice.createInjector(new ExtAnnotationsModule().generateListeners()).getInstance(ParamsBean.class);
+    }
+
+    @Test
+    public void testFailedGenerationNotRepeated() throws Exception {
+        // class with generated listener name already defined: listener class can't be defined
+        Assert.assertNotNull(FailingBean.GuiceListener0.class.getName());
+        DynamicClassException first = generationError(FailingBean.class);
+        DynamicClassException second = generationError(FailingBean.class);
+        // cached failure: no new generation attempt
+        Assert.assertNotNull(first.getCause());
+        Assert.assertSame(first.getCause(), second.getCause());
+
+        // usual listener used instead
+        for (int i = 0; i < 2; i++) {
+            FailingBean bean = Guice.createInjector(new ExtAnnotationsModule().generateListeners())
+                    .getInstance(FailingBean.class);
+            Assert.assertEquals(1, bean.counter);
+        }
+    }
+
+    private DynamicClassException generationError(Class<?> type) {
+        try {
+            InjectionListenerGenerator.plan(type).generate();
+            throw new AssertionError("Generation must fail");
+        } catch (DynamicClassException ex) {
+            return ex;
+        }
+    }
+
+    public static class LifecycleBean extends LifecycleBase implements Destroyable {
+        @Log
+        Logger logger;
+        @Log
+        private Logger privateLogger;
+
+        @PostConstruct
+        public void init() {
+            calls.add("init");
+        }
+
+        @PostConstruct
+        private void privateInit() {
+            calls.add("privateInit");
+        }
+
+        @PreDestroy
+        void destroy() {
+            calls.add("destroy");
+        }
+
+        @Override
+        public void preDestroy() throws Exception {
+            calls.add("destroyable");
+        }
+    }
+
+    public static class ReusedBean {
+        int counter;
+        @Log
+        Logger logger;
+
+        @PostConstruct
+        void init() {
+            counter++;
+        }
+    }
+
+    public static class FailingBean {
+        int counter;
+
+        @PostConstruct
+        void init() {
+            counter++;
+        }
+
+        // the same name as generated listener would have
+        public static class GuiceListener0 {
+        }
+    }
+
+    public static class KoBean {
+        @PostConstruct
+        public void init() {
+            throw new IllegalStateException("foo");
+        }
+    }
+
+    public static class ParamsBean {
+        @PostConstruct
+        public void init(Object smth) {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package ru.vyarus.guice.ext.postprocess;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.ProvisionException;
+import com.google.inject.matcher.Matchers;
+import jakarta.annotation.PostConstruct;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener;
+import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
+import ru.vyarus.guice.ext.core.method.MethodHandlePostProcessor;
+import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.core.method.PreparedMethod;
+import ru.vyarus.guice.ext.core.util.Utils;
+import ru.vyarus.guice.ext.postprocess.support.Mark;
+import ru.vyarus.guice.ext.postprocess.support.MarkedBean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class MethodHandlePostProcessorTest {
+
+    @Test
+    public void testHandlePreparedOnce() throws Exception {
+        final CountingProcessor processor = new CountingProcessor();
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new AnnotatedMethodTypeListener<>(Mark.class, processor));
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            injector.getInstance(MarkedBean.class);
+        }
+        // two annotated methods in hierarchy
+        Assert.assertEquals(2, processor.prepared);
+        Assert.assertEquals(6, processor.processed);
+    }
+
+    @Test
+    public void testHandlePreparedOnceInCombinedListener() throws Exception {
+        final CountingProcessor processor = new CountingProcessor();
+        final Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), PostProcessingTypeListener.builder()
+                        .method(Mark.class, processor)
+                        .build());
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            injector.getInstance(MarkedBean.class);
+        }
+        Assert.assertEquals(2, processor.prepared);
+        Assert.assertEquals(6, processor.processed);
+    }
+
+    @Test
+    public void testPostConstructMethodVariants() throws Exception {
+        final Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        VariantsBean.staticCalls = 0;
+        VariantsBean bean = injector.getInstance(VariantsBean.class);
+        Assert.assertEquals(1, bean.counter);
+        Assert.assertEquals(1, VariantsBean.staticCalls);
+    }
+
+    @Test
+    public void testValidationErrorOnEachInstance() throws Exception {
+        final Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+        for (int i = 0; i < 2; i++) {
+            try {
+                injector.getInstance(KoBean.class);
+                Assert.fail();
+            } catch (ProvisionException ex) {
+                Throwable cause = ex.getCause();
+                Assert.assertEquals("Failed to process annotation PostConstruct on method init of class KoBean",
+                        cause.getMessage());
+                Assert.assertEquals("Method without parameters required", cause.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testAccessErrorOnEachInstance() throws Exception {
+        Assume.assumeFalse(Utils.isJava8());
+        // protected method of not opened java.base package could not be made accessible
+        final PreparedMethod<Deprecated> prepared = new PreparedMethod<>(Deprecated.class,
+                Object.class.getDeclaredMethod("finalize"), new MethodPostProcessor<Deprecated>() {
+                    @Override
+                    public void process(Deprecated annotation, Method method, Object instance) throws Exception {
+                        Assert.fail();
+                    }
+                });
+        for (int i = 0; i < 2; i++) {
+            try {
+                prepared.process(new Object());
+                Assert.fail();
+            } catch (IllegalStateException ex) {
+                Assert.assertEquals("Failed to process annotation Deprecated on method finalize of class Object",
+                        ex.getMessage());
+                Assert.assertEquals("InaccessibleObjectException", ex.getCause().getClass().getSimpleName());
+            }
+        }
+    }
+
+    private static class CountingProcessor implements MethodHandlePostProcessor<Mark> {
+        int prepared;
+        int processed;
+
+        @Override
+        public MethodHandle prepare(Mark annotation, Method method) throws Exception {
+            prepared++;
+            return Utils.noParamsHandle(method);
+        }
+
+        @Override
+        public void process(Mark annotation, Method method, MethodHandle handle, Object instance) throws Exception {
+            processed++;
+            Utils.invokeNoParams(handle, instance);
+        }
+
+        @Override
+        public void process(Mark annotation, Method method, Object instance) throws Exception {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public static class VariantsBean {
+        static int staticCalls;
+        int counter;
+
+        @PostConstruct
+        private String init() {
+            counter++;
+            return "ignored";
+        }
+
+        @PostConstruct
+        static void staticInit() {
+            staticCalls++;
+        }
+    }
+
+    public static class KoBean {
+        @PostConstruct
+        public void init(Object smth) {
+        }
+    }
+}
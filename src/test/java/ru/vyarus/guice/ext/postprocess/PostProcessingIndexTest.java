@@ -0,0 +1,178 @@
+package ru.vyarus.guice.ext.postprocess;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.core.index.PostProcessingIndex;
+import ru.vyarus.guice.ext.core.index.PostProcessingIndexProcessor;
+import ru.vyarus.guice.ext.log.Log;
+
+import jakarta.annotation.PostConstruct;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PostProcessingIndexTest {
+
+    private static final String ANNOTATED = "package idx;\n"
+            + "public class Annotated {\n"
+            + "    public int calls;\n"
+            + "    @ru.vyarus.guice.ext.log.Log org.slf4j.Logger logger;\n"
+            + "    @jakarta.annotation.PostConstruct public void init() { calls++; }\n"
+            + "    @Deprecated public void old() {}\n"
+            + "    @SuppressWarnings(\"unused\") public void notVisible() {}\n"
+            + "}\n";
+    private static final String PLAIN = "package idx;\n"
+            + "public class Plain {\n"
+            + "    public int calls;\n"
+            + "    public void init() { calls++; }\n"
+            + "    public static class Inner {\n"
+            + "        @jakarta.annotation.PostConstruct public void init() {}\n"
+            + "    }\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        PostProcessingIndex.setEnabled(true);
+    }
+
+    @Test
+    public void testIndexGeneration() throws Exception {
+        Path out = compile(true, ANNOTATED, PLAIN);
+        List<String> lines = Files.readAllLines(out.resolve(PostProcessingIndex.INDEX_FILE));
+        Assert.assertEquals(Arrays.asList(
+                "# guice-ext-annotations post processing index",
+                "idx.Annotated|m=jakarta.annotation.PostConstruct,java.lang.Deprecated"
+                        + "|f=ru.vyarus.guice.ext.log.Log",
+                "idx.Plain",
+                "idx.Plain$Inner|m=jakarta.annotation.PostConstruct"), lines);
+    }
+
+    @Test
+    public void testIndexUsage() throws Exception {
+        try (URLClassLoader loader = loader(compile(true, ANNOTATED, PLAIN))) {
+            Class<?> annotated = loader.loadClass("idx.Annotated");
+            Class<?> plain = loader.loadClass("idx.Plain");
+            Assert.assertTrue(PostProcessingIndex.isIndexed(annotated));
+            Assert.assertTrue(PostProcessingIndex.hasMethods(annotated, PostConstruct.class));
+            Assert.assertTrue(PostProcessingIndex.hasFields(annotated, Log.class));
+            Assert.assertFalse(PostProcessingIndex.hasFields(annotated, PostConstruct.class));
+            Assert.assertTrue(PostProcessingIndex.isIndexed(plain));
+            Assert.assertFalse(PostProcessingIndex.hasAnnotatedMethods(plain));
+            Assert.assertFalse(PostProcessingIndex.hasAnnotatedFields(plain));
+            // not indexed class
+            Assert.assertFalse(PostProcessingIndex.isIndexed(PostProcessingIndexTest.class));
+            Assert.assertTrue(PostProcessingIndex.hasMethods(PostProcessingIndexTest.class, PostConstruct.class));
+
+            Injector injector = Guice.createInjector(new ExtAnnotationsModule());
+            Object bean = injector.getInstance(annotated);
+            Assert.assertEquals(1, annotated.getField("calls").getInt(bean));
+        }
+    }
+
+    @Test
+    public void testIndexedMembersNotScanned() throws Exception {
+        // class with annotated method, but index claims no annotations (index consulted instead of scan)
+        Path out = compile(false, ANNOTATED);
+        Path index = out.resolve(PostProcessingIndex.INDEX_FILE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList("idx.Annotated"), StandardCharsets.UTF_8);
+        try (URLClassLoader loader = loader(out)) {
+            Class<?> annotated = loader.loadClass("idx.Annotated");
+            Object bean = Guice.createInjector(new ExtAnnotationsModule()).getInstance(annotated);
+            Assert.assertEquals(0, annotated.getField("calls").getInt(bean));
+        }
+        // class metadata is cached, so new class loader required
+        PostProcessingIndex.setEnabled(false);
+        try (URLClassLoader loader = loader(out)) {
+            Class<?> annotated = loader.loadClass("idx.Annotated");
+            Object bean = Guice.createInjector(new ExtAnnotationsModule()).getInstance(annotated);
+            Assert.assertEquals(1, annotated.getField("calls").getInt(bean));
+        }
+    }
+
+    @Test
+    public void testIndexFromOtherLocationIgnored() throws Exception {
+        Path out = compile(false, ANNOTATED);
+        // index in other directory
+        Path other = folder.newFolder().toPath();
+        Path index = other.resolve(PostProcessingIndex.INDEX_FILE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList("idx.Annotated"), StandardCharsets.UTF_8);
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{out.toUri().toURL(), other.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> annotated = loader.loadClass("idx.Annotated");
+            Assert.assertFalse(PostProcessingIndex.isIndexed(annotated));
+            Object bean = Guice.createInjector(new ExtAnnotationsModule()).getInstance(annotated);
+            Assert.assertEquals(1, annotated.getField("calls").getInt(bean));
+        }
+    }
+
+    @Test
+    public void testCorruptedIndex() throws Exception {
+        Path out = compile(false, ANNOTATED, PLAIN);
+        Path index = out.resolve(PostProcessingIndex.INDEX_FILE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Arrays.asList("idx.Annotated|x", "|m=jakarta.annotation.PostConstruct", "idx.Plain|m"),
+                StandardCharsets.UTF_8);
+        try (URLClassLoader loader = loader(out)) {
+            // malformed lines ignored: classes scanned
+            Class<?> annotated = loader.loadClass("idx.Annotated");
+            Assert.assertFalse(PostProcessingIndex.isIndexed(annotated));
+            Assert.assertFalse(PostProcessingIndex.isIndexed(loader.loadClass("idx.Plain")));
+            Object bean = Guice.createInjector(new ExtAnnotationsModule()).getInstance(annotated);
+            Assert.assertEquals(1, annotated.getField("calls").getInt(bean));
+        }
+    }
+
+    private Path compile(boolean index, String... sources) throws Exception {
+        Path src = folder.newFolder().toPath();
+        Path out = folder.newFolder().toPath();
+        List<File> files = new ArrayList<>();
+        for (String source : sources) {
+            String name = source.substring(source.indexOf("class ") + 6, source.indexOf(" {"));
+            Path file = src.resolve(name + ".java");
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            files.add(file.toFile());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = manager.getJavaFileObjectsFromFiles(files);
+            List<String> options = new ArrayList<>(Arrays.asList("-d", out.toString(),
+                    "-cp", System.getProperty("java.class.path")));
+            options.add(index ? "-processor" : "-proc:none");
+            if (index) {
+                options.add(PostProcessingIndexProcessor.class.getName());
+            }
+            Assert.assertTrue(compiler.getTask(null, manager, null, options, null, units).call());
+        }
+        return out;
+    }
+
+    private URLClassLoader loader(Path out) throws Exception {
+        return new URLClassLoader(new URL[]{out.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
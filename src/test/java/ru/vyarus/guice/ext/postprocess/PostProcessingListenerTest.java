@@ -0,0 +1,235 @@
+package ru.vyarus.guice.ext.postprocess;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.TypeLiteral;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.TypeListener;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.vyarus.guice.ext.ExtAnnotationsModule;
+import ru.vyarus.guice.ext.core.field.AnnotatedFieldTypeListener;
+import ru.vyarus.guice.ext.core.field.FieldPostProcessor;
+import ru.vyarus.guice.ext.core.listener.PostProcessingTypeListener;
+import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
+import ru.vyarus.guice.ext.core.method.MethodPostProcessor;
+import ru.vyarus.guice.ext.core.type.TypePostProcessor;
+import ru.vyarus.guice.ext.managed.async.AsyncInitializationManager;
+import ru.vyarus.guice.ext.managed.destroyable.DestroyableManager;
+import ru.vyarus.guice.ext.postprocess.support.Mark;
+import ru.vyarus.guice.ext.postprocess.support.MarkedBase;
+import ru.vyarus.guice.ext.postprocess.support.MarkedBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PostProcessingListenerTest {
+
+    @Test
+    public void testProcessingOrder() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), PostProcessingTypeListener.builder()
+                        .field(Mark.class, new FieldRecorder("f1", calls))
+                        .type(MarkedBase.class, new TypeRecorder(calls))
+                        .method(Mark.class, new MethodRecorder(calls))
+                        .field(Mark.class, new FieldRecorder("f2", calls))
+                        .build());
+            }
+        }).getInstance(MarkedBean.class);
+        // registration order, members from bean class first
+        Assert.assertEquals(Arrays.asList("f1:field", "f1:baseField", "type", "method", "baseMethod",
+                "f2:field", "f2:baseField"), calls);
+    }
+
+    @Test
+    public void testCustomProcessorInModule() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        Guice.createInjector(new ExtAnnotationsModule() {
+            @Override
+            protected void configureProcessors(PostProcessingTypeListener.Builder builder,
+                                               DestroyableManager manager,
+                                               AsyncInitializationManager asyncManager) {
+                super.configureProcessors(builder, manager, asyncManager);
+                builder.method(Mark.class, new MethodRecorder(calls));
+            }
+        }).getInstance(MarkedBean.class);
+        Assert.assertEquals(Arrays.asList("method", "baseMethod"), calls);
+    }
+
+    @Test
+    public void testNotRelevantTypesCache() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        // type without annotated members remembered as not relevant
+        for (int i = 0; i < 2; i++) {
+            Guice.createInjector(new AbstractModule() {
+                @Override
+                protected void configure() {
+                    bindListener(Matchers.any(), PostProcessingTypeListener.builder()
+                            .method(Mark.class, new MethodRecorder(calls))
+                            .build());
+                }
+            }).getInstance(PlainBean.class);
+        }
+        Assert.assertTrue(calls.isEmpty());
+
+        // cached decision is not applied for different registrations
+        Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), PostProcessingTypeListener.builder()
+                        .method(Mark.class, new MethodRecorder(calls))
+                        .type(PlainBean.class, new TypePostProcessor<PlainBean>() {
+                            @Override
+                            public void process(PlainBean instance) throws Exception {
+                                calls.add("plain");
+                            }
+                        })
+                        .build());
+            }
+        }).getInstance(PlainBean.class);
+        Assert.assertEquals(Arrays.asList("plain"), calls);
+
+        // relevant types processed in each injector
+        calls.clear();
+        for (int i = 0; i < 2; i++) {
+            Guice.createInjector(new AbstractModule() {
+                @Override
+                protected void configure() {
+                    bindListener(Matchers.any(), PostProcessingTypeListener.builder()
+                            .method(Mark.class, new MethodRecorder(calls))
+                            .build());
+                }
+            }).getInstance(MarkedBean.class);
+        }
+        Assert.assertEquals(Arrays.asList("method", "baseMethod", "method", "baseMethod"), calls);
+    }
+
+    @Test
+    public void testAnnotationLoaderNotRetained() throws Exception {
+        WeakReference<ClassLoader> loader = hearWithChildAnnotation();
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertNull("Annotation class loader was not collected", loader.get());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private WeakReference<ClassLoader> hearWithChildAnnotation() throws Exception {
+        final ClassLoader loader = new AnnotationLoader(getClass().getClassLoader());
+        final Class ann = loader.loadClass(Mark.class.getName());
+        Assert.assertNotSame(Mark.class, ann);
+        final List<String> calls = new ArrayList<>();
+        final List<TypeListener> listeners = Arrays.asList(
+                PostProcessingTypeListener.builder()
+                        .method(ann, new MethodRecorder(calls))
+                        .field(ann, new FieldRecorder("f", calls))
+                        .build(),
+                new AnnotatedMethodTypeListener(ann, new MethodRecorder(calls)),
+                new AnnotatedFieldTypeListener(ann, new FieldRecorder("f", calls)));
+        for (TypeListener listener : listeners) {
+            // bean types from parent loader (without child annotation usages)
+            listener.hear(TypeLiteral.get(PlainBean.class), null);
+            listener.hear(TypeLiteral.get(MarkedBean.class), null);
+        }
+        Assert.assertTrue(calls.isEmpty());
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * Loads own copy of {@link Mark} annotation.
+     */
+    private static class AnnotationLoader extends ClassLoader {
+
+        AnnotationLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Mark.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> res = findLoadedClass(name);
+                if (res == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        byte[] buffer = new byte[4096];
+                        int read;
+                        while ((read = in.read(buffer)) > 0) {
+                            out.write(buffer, 0, read);
+                        }
+                        byte[] bytes = out.toByteArray();
+                        res = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException ex) {
+                        throw new ClassNotFoundException(name, ex);
+                    }
+                }
+                return res;
+            }
+        }
+    }
+
+    public static class PlainBean {
+        public void method() {
+        }
+    }
+
+    private static class FieldRecorder implements FieldPostProcessor<Mark> {
+        private final String name;
+        private final List<String> calls;
+
+        FieldRecorder(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void process(Mark annotation, Field field, Object instance) throws Exception {
+            field.set(instance, annotation.value());
+            calls.add(name + ":" + annotation.value());
+        }
+    }
+
+    private static class MethodRecorder implements MethodPostProcessor<Mark> {
+        private final List<String> calls;
+
+        MethodRecorder(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public void process(Mark annotation, Method method, Object instance) throws Exception {
+            method.invoke(instance);
+            calls.add(annotation.value());
+        }
+    }
+
+    private static class TypeRecorder implements TypePostProcessor<MarkedBase> {
+        private final List<String> calls;
+
+        TypeRecorder(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public void process(MarkedBase instance) throws Exception {
+            calls.add("type");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.vyarus.guice.ext.postprocess.support;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class MarkedBase {
+
+    @Mark("baseField")
+    private String baseField;
+
+    @Mark("baseMethod")
+    private void baseMethod() {
+    }
+}
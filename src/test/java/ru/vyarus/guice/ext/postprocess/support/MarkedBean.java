@@ -0,0 +1,15 @@
+package ru.vyarus.guice.ext.postprocess.support;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class MarkedBean extends MarkedBase {
+
+    @Mark("field")
+    private String field;
+
+    @Mark("method")
+    public void method() {
+    }
+}
@@ -0,0 +1,31 @@
+package ru.vyarus.guice.ext.postprocess.support.lifecycle;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import ru.vyarus.guice.ext.log.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class in other package: protected members are not accessible from generated listener.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class LifecycleBase {
+
+    public final List<String> calls = new ArrayList<>();
+
+    @Log
+    protected Logger baseLogger;
+
+    @PostConstruct
+    protected void baseInit() {
+        calls.add("baseInit");
+    }
+
+    public Logger getBaseLogger() {
+        return baseLogger;
+    }
+}